@@ -0,0 +1,18 @@
+package com.github.houbb.heaven.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 线程内复用注解
+ * 1. 此注解放在类上，标识当前类不是线程安全的，但是可以在同一个线程内重复使用。
+ * 2. {@link com.github.houbb.heaven.support.instance.Instance#threadSafe(Class)} 对于此类返回线程内唯一的实例。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Documented
+@Inherited
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ThreadScoped {
+}
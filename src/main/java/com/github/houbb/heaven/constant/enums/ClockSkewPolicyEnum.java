@@ -0,0 +1,28 @@
+package com.github.houbb.heaven.constant.enums;
+
+/**
+ * <p> 时钟回拨处理策略枚举 </p>
+ *
+ * 回拨的毫秒数超过允许的最大值时，所有策略都会抛出异常。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public enum ClockSkewPolicyEnum {
+
+    /**
+     * 只要发生回拨，直接抛出异常
+     */
+    THROW,
+
+    /**
+     * 自旋等待，直到时钟追上上一次的时间戳
+     */
+    WAIT,
+
+    /**
+     * 沿用上一次的时间戳，继续自增序列号
+     */
+    BORROW;
+
+}
@@ -0,0 +1,70 @@
+package com.github.houbb.heaven.constant.enums;
+
+/**
+ * <p> 深度比较的策略类型枚举 </p>
+ *
+ * 由对象的类型决定，参见 {@link com.github.houbb.heaven.support.equals.impl.EqualsStrategy#kind()}。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public enum EqualsKindEnum {
+
+    /**
+     * 直接调用 equals
+     * 1. 重写了 equals 的类、枚举、jdk 中的类、Set
+     */
+    VALUE(false),
+
+    /**
+     * 比较字段
+     */
+    BEAN(false),
+
+    /**
+     * 按下标比较元素
+     */
+    LIST(false),
+
+    /**
+     * 按迭代顺序比较元素
+     */
+    COLLECTION(false),
+
+    /**
+     * 按 key 比较值
+     */
+    MAP(false),
+
+    OBJECT_ARRAY(false),
+
+    BOOLEAN_ARRAY(true),
+
+    BYTE_ARRAY(true),
+
+    CHAR_ARRAY(true),
+
+    SHORT_ARRAY(true),
+
+    INT_ARRAY(true),
+
+    LONG_ARRAY(true),
+
+    FLOAT_ARRAY(true),
+
+    DOUBLE_ARRAY(true);
+
+    /**
+     * 是否为基本类型数组
+     */
+    private final boolean primitiveArray;
+
+    EqualsKindEnum(boolean primitiveArray) {
+        this.primitiveArray = primitiveArray;
+    }
+
+    public boolean primitiveArray() {
+        return primitiveArray;
+    }
+
+}
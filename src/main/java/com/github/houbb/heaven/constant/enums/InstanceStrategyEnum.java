@@ -0,0 +1,28 @@
+package com.github.houbb.heaven.constant.enums;
+
+/**
+ * <p> 实例创建策略枚举 </p>
+ *
+ * 根据类上的注解决定，参见 {@link com.github.houbb.heaven.support.instance.Instance#threadSafe(Class)}。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public enum InstanceStrategyEnum {
+
+    /**
+     * 单例：{@link com.github.houbb.heaven.annotation.ThreadSafe}
+     */
+    SINGLETON,
+
+    /**
+     * 线程内唯一：{@link com.github.houbb.heaven.annotation.ThreadScoped}
+     */
+    THREAD_LOCAL,
+
+    /**
+     * 多例：{@link com.github.houbb.heaven.annotation.NotThreadSafe} 或者没有注解
+     */
+    MULTIPLE;
+
+}
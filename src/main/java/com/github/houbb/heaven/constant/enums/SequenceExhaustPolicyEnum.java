@@ -0,0 +1,22 @@
+package com.github.houbb.heaven.constant.enums;
+
+/**
+ * <p> 同一毫秒内序列号耗尽时的处理策略枚举 </p>
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public enum SequenceExhaustPolicyEnum {
+
+    /**
+     * 自旋等待到下一个毫秒
+     */
+    SPIN,
+
+    /**
+     * 直接借用下一个毫秒，不进行等待
+     * 1. 借用的毫秒数超过允许的最大值时，退化为自旋等待
+     */
+    BORROW_FUTURE;
+
+}
@@ -0,0 +1,38 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.reflect.api.IFieldAccessor;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字段访问器工具类
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public final class FieldAccessors {
+
+    private FieldAccessors(){}
+
+    /**
+     * 创建字段访问器
+     *
+     * 1. 优先使用 {@link MethodHandleFieldAccessor}
+     * 2. 无法创建句柄时使用 {@link ReflectFieldAccessor}
+     *
+     * 注意：创建成本较高，应该缓存使用，参见 {@link com.github.houbb.heaven.reflect.meta.FieldMeta#accessor()}
+     *
+     * @param field 字段
+     * @return 访问器
+     */
+    public static IFieldAccessor of(final Field field) {
+        ArgUtil.notNull(field, "field");
+
+        try {
+            return new MethodHandleFieldAccessor(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectFieldAccessor(field);
+        }
+    }
+
+}
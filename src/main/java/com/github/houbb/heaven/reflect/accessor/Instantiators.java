@@ -0,0 +1,120 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.reflect.api.IInstantiator;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * 实例化器工具类
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public final class Instantiators {
+
+    private Instantiators(){}
+
+    /**
+     * 无参构造器的实例化器
+     * 1. 每个类只解析一次
+     * 2. 不存在无参构造器时不缓存，每次获取都会抛出异常
+     * 3. 不强制访问，和 {@link Class#newInstance()} 一致，构造器无法访问时实例化抛出异常
+     */
+    private static final ClassValue<IInstantiator> NO_ARG = new ClassValue<IInstantiator>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected IInstantiator computeValue(Class<?> type) {
+            if (type.isInterface()
+                    || Modifier.isAbstract(type.getModifiers())) {
+                throw new ReflectRumtionException("Can't instantiate abstract class or interface: " + type.getName());
+            }
+            try {
+                return create(type.getDeclaredConstructor());
+            } catch (NoSuchMethodException e) {
+                throw new ReflectRumtionException(e);
+            }
+        }
+    };
+
+    /**
+     * 获取无参构造器的实例化器
+     *
+     * 1. 结果按类缓存，可以直接在热点路径上调用。
+     * 2. 只能使用可以访问的构造器，私有构造器会在实例化时抛出 {@link ReflectRumtionException}。
+     *
+     * @param type 类型
+     * @param <T> 泛型
+     * @return 实例化器
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> IInstantiator<T> of(final Class<T> type) {
+        ArgUtil.notNull(type, "type");
+
+        return (IInstantiator<T>) NO_ARG.get(type);
+    }
+
+    /**
+     * 创建指定参数类型的构造器的实例化器
+     *
+     * 1. 强制访问，可以使用私有构造器。
+     *
+     * 注意：结果不缓存，应该由调用方保存使用。
+     *
+     * @param type 类型
+     * @param paramTypes 参数类型
+     * @param <T> 泛型
+     * @return 实例化器
+     */
+    public static <T> IInstantiator<T> of(final Class<T> type, final Class<?>... paramTypes) {
+        ArgUtil.notNull(type, "type");
+
+        try {
+            return of(type.getDeclaredConstructor(paramTypes));
+        } catch (NoSuchMethodException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    /**
+     * 创建实例化器
+     *
+     * 1. 强制访问，可以使用私有构造器。
+     *
+     * 注意：创建成本较高，应该缓存使用。
+     *
+     * @param constructor 构造器
+     * @param <T> 泛型
+     * @return 实例化器
+     */
+    public static <T> IInstantiator<T> of(final Constructor<T> constructor) {
+        ArgUtil.notNull(constructor, "constructor");
+
+        try {
+            constructor.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 安全管理器或者模块限制，保持原有的访问权限
+        }
+        return create(constructor);
+    }
+
+    /**
+     * 创建实例化器
+     *
+     * 1. 优先使用 {@link MethodHandleInstantiator}
+     * 2. 无法创建句柄时使用 {@link ReflectInstantiator}
+     *
+     * @param constructor 构造器
+     * @param <T> 泛型
+     * @return 实例化器
+     */
+    private static <T> IInstantiator<T> create(final Constructor<T> constructor) {
+        try {
+            return new MethodHandleInstantiator<>(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectInstantiator<>(constructor);
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IFieldAccessor;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 基于 {@link MethodHandle} 的字段访问器
+ *
+ * 1. 创建时一次性完成访问权限检查，之后的读写不再检查。
+ * 2. 基本类型字段额外保存一份类型精确的句柄，getXxx/setXxx 不会装箱。
+ * 3. 类型不一致的基本类型读写（比如对 int 字段调用 getLong），以及无法创建写句柄的 final 字段，
+ * 交给 {@link ReflectFieldAccessor} 处理，行为和 {@link Field} 保持一致。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class MethodHandleFieldAccessor implements IFieldAccessor {
+
+    /**
+     * 字段
+     */
+    private final Field field;
+
+    /**
+     * 字段类型
+     */
+    private final Class type;
+
+    /**
+     * 读句柄 (Object)Object
+     */
+    private final MethodHandle getter;
+
+    /**
+     * 写句柄 (Object, Object)void，无法创建时为 null
+     */
+    private final MethodHandle setter;
+
+    /**
+     * 类型精确的读句柄 (Object)type
+     */
+    private final MethodHandle typedGetter;
+
+    /**
+     * 类型精确的写句柄 (Object, type)void，无法创建时为 null
+     */
+    private final MethodHandle typedSetter;
+
+    /**
+     * 兜底实现
+     */
+    private final ReflectFieldAccessor fallback;
+
+    /**
+     * @param field 字段
+     * @throws IllegalAccessException 无法创建读句柄
+     */
+    public MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+        ArgUtil.notNull(field, "field");
+
+        this.fallback = new ReflectFieldAccessor(field);
+        this.field = field;
+        this.type = field.getType();
+
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle rawGetter = lookup.unreflectGetter(field);
+        MethodHandle rawSetter = null;
+        try {
+            rawSetter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            // final 字段不允许创建写句柄
+        }
+
+        if (isStatic) {
+            rawGetter = MethodHandles.dropArguments(rawGetter, 0, Object.class);
+        }
+        this.typedGetter = rawGetter.asType(MethodType.methodType(type, Object.class));
+        this.getter = rawGetter.asType(MethodType.methodType(Object.class, Object.class));
+
+        if (rawSetter == null) {
+            this.typedSetter = null;
+            this.setter = null;
+        } else {
+            if (isStatic) {
+                rawSetter = MethodHandles.dropArguments(rawSetter, 0, Object.class);
+            }
+            this.typedSetter = rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+            this.setter = rawSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+    }
+
+    @Override
+    public Field field() {
+        return field;
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable throwable) {
+            throw wrap(throwable);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        if (setter == null) {
+            fallback.set(target, value);
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable throwable) {
+            throw wrap(throwable);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        if (type == boolean.class) {
+            try {
+                return (boolean) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getBoolean(target);
+    }
+
+    @Override
+    public byte getByte(Object target) {
+        if (type == byte.class) {
+            try {
+                return (byte) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getByte(target);
+    }
+
+    @Override
+    public char getChar(Object target) {
+        if (type == char.class) {
+            try {
+                return (char) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getChar(target);
+    }
+
+    @Override
+    public short getShort(Object target) {
+        if (type == short.class) {
+            try {
+                return (short) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getShort(target);
+    }
+
+    @Override
+    public int getInt(Object target) {
+        if (type == int.class) {
+            try {
+                return (int) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getInt(target);
+    }
+
+    @Override
+    public long getLong(Object target) {
+        if (type == long.class) {
+            try {
+                return (long) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getLong(target);
+    }
+
+    @Override
+    public float getFloat(Object target) {
+        if (type == float.class) {
+            try {
+                return (float) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getFloat(target);
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        if (type == double.class) {
+            try {
+                return (double) typedGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        return fallback.getDouble(target);
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        if (type == boolean.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setBoolean(target, value);
+    }
+
+    @Override
+    public void setByte(Object target, byte value) {
+        if (type == byte.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setByte(target, value);
+    }
+
+    @Override
+    public void setChar(Object target, char value) {
+        if (type == char.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setChar(target, value);
+    }
+
+    @Override
+    public void setShort(Object target, short value) {
+        if (type == short.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setShort(target, value);
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        if (type == int.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setInt(target, value);
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        if (type == long.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setLong(target, value);
+    }
+
+    @Override
+    public void setFloat(Object target, float value) {
+        if (type == float.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setFloat(target, value);
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        if (type == double.class
+                && typedSetter != null) {
+            try {
+                typedSetter.invokeExact(target, value);
+                return;
+            } catch (Throwable throwable) {
+                throw wrap(throwable);
+            }
+        }
+        fallback.setDouble(target, value);
+    }
+
+    /**
+     * 包装异常
+     * @param throwable 异常
+     * @return 运行时异常
+     */
+    private static RuntimeException wrap(final Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new ReflectRumtionException(throwable);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IInstantiator;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * 基于 {@link MethodHandle} 的实例化器
+ *
+ * 1. 无参构造器直接转换为 ()Object，调用时不创建参数数组。
+ * 2. 其他构造器统一转换为 (Object[])Object。
+ * 3. 不修改构造器的访问权限，无法访问时创建失败，需要访问私有构造器时由调用方先设置 accessible。
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class MethodHandleInstantiator<T> implements IInstantiator<T> {
+
+    /**
+     * 构造器
+     */
+    private final Constructor<T> constructor;
+
+    /**
+     * 参数数量
+     */
+    private final int paramCount;
+
+    /**
+     * 无参构造器句柄 ()Object，存在参数时为 null
+     */
+    private final MethodHandle noArgHandle;
+
+    /**
+     * 构造器句柄 (Object[])Object
+     */
+    private final MethodHandle handle;
+
+    /**
+     * @param constructor 构造器
+     * @throws IllegalAccessException 构造器无法访问
+     */
+    public MethodHandleInstantiator(Constructor<T> constructor) throws IllegalAccessException {
+        ArgUtil.notNull(constructor, "constructor");
+
+        this.constructor = constructor;
+        this.paramCount = constructor.getParameterTypes().length;
+        // 可变参数构造器按照数组参数处理，和 Constructor.newInstance 保持一致
+        final MethodHandle raw = MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity();
+        this.noArgHandle = paramCount == 0
+                ? raw.asType(MethodType.methodType(Object.class)) : null;
+        this.handle = raw.asSpreader(Object[].class, paramCount)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    @Override
+    public Constructor<T> constructor() {
+        return constructor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance() {
+        if (noArgHandle == null) {
+            throw new IllegalArgumentException("Constructor requires " + paramCount + " arguments: " + constructor);
+        }
+        try {
+            return (T) (Object) noArgHandle.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectRumtionException(throwable);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object... args) {
+        try {
+            return (T) (Object) handle.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectRumtionException(throwable);
+        }
+    }
+
+}
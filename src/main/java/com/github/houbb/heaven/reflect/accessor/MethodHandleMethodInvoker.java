@@ -0,0 +1,75 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IMethodInvoker;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 基于 {@link MethodHandle} 的方法调用器
+ *
+ * 创建时将方法句柄统一转换为 (Object, Object[])Object，调用时不再进行访问权限检查和参数适配的准备工作。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class MethodHandleMethodInvoker implements IMethodInvoker {
+
+    /**
+     * 方法
+     */
+    private final Method method;
+
+    /**
+     * 方法句柄 (Object, Object[])Object
+     */
+    private final MethodHandle handle;
+
+    /**
+     * @param method 方法
+     * @throws IllegalAccessException 无法创建句柄
+     */
+    public MethodHandleMethodInvoker(Method method) throws IllegalAccessException {
+        ArgUtil.notNull(method, "method");
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 安全管理器或者模块限制，保持原有的访问权限
+        }
+
+        final int paramCount = method.getParameterTypes().length;
+        MethodHandle raw = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            raw = MethodHandles.dropArguments(raw, 0, Object.class);
+        }
+        // 可变参数方法按照数组参数处理，和 Method.invoke 保持一致
+        raw = raw.asFixedArity();
+        this.method = method;
+        this.handle = raw.asSpreader(Object[].class, paramCount)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+    @Override
+    public Method method() {
+        return method;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) {
+        try {
+            return (Object) handle.invokeExact(target, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectRumtionException(throwable);
+        }
+    }
+
+}
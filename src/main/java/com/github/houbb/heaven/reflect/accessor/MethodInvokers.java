@@ -0,0 +1,38 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.reflect.api.IMethodInvoker;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.reflect.Method;
+
+/**
+ * 方法调用器工具类
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public final class MethodInvokers {
+
+    private MethodInvokers(){}
+
+    /**
+     * 创建方法调用器
+     *
+     * 1. 优先使用 {@link MethodHandleMethodInvoker}
+     * 2. 无法创建句柄时使用 {@link ReflectMethodInvoker}
+     *
+     * 注意：创建成本较高，应该缓存使用，参见 {@link com.github.houbb.heaven.reflect.api.IMethod#invoker()}
+     *
+     * @param method 方法
+     * @return 调用器
+     */
+    public static IMethodInvoker of(final Method method) {
+        ArgUtil.notNull(method, "method");
+
+        try {
+            return new MethodHandleMethodInvoker(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectMethodInvoker(method);
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IFieldAccessor;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.reflect.Field;
+
+/**
+ * 基于 {@link Field} 的字段访问器
+ *
+ * 1. 创建时设置可访问，之后直接调用 {@link Field} 的对应方法。
+ * 2. 作为 {@link MethodHandleFieldAccessor} 无法创建时的兜底实现。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class ReflectFieldAccessor implements IFieldAccessor {
+
+    /**
+     * 字段
+     */
+    private final Field field;
+
+    /**
+     * @param field 字段
+     */
+    public ReflectFieldAccessor(Field field) {
+        ArgUtil.notNull(field, "field");
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 安全管理器或者模块限制，保持原有的访问权限，读写时再抛出异常
+        }
+        this.field = field;
+    }
+
+    @Override
+    public Field field() {
+        return field;
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        try {
+            return field.getBoolean(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public byte getByte(Object target) {
+        try {
+            return field.getByte(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public char getChar(Object target) {
+        try {
+            return field.getChar(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public short getShort(Object target) {
+        try {
+            return field.getShort(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object target) {
+        try {
+            return field.getInt(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        try {
+            return field.getLong(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public float getFloat(Object target) {
+        try {
+            return field.getFloat(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        try {
+            return field.getDouble(target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        try {
+            field.setBoolean(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setByte(Object target, byte value) {
+        try {
+            field.setByte(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setChar(Object target, char value) {
+        try {
+            field.setChar(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setShort(Object target, short value) {
+        try {
+            field.setShort(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        try {
+            field.setInt(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        try {
+            field.setLong(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setFloat(Object target, float value) {
+        try {
+            field.setFloat(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        try {
+            field.setDouble(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IInstantiator;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * 基于 {@link Constructor#newInstance(Object...)} 的实例化器
+ *
+ * 1. 作为 {@link MethodHandleInstantiator} 无法创建时的兜底实现。
+ * 2. 不修改构造器的访问权限，无法访问时实例化抛出 {@link ReflectRumtionException}。
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class ReflectInstantiator<T> implements IInstantiator<T> {
+
+    /**
+     * 空参数
+     */
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
+    /**
+     * 构造器
+     */
+    private final Constructor<T> constructor;
+
+    /**
+     * @param constructor 构造器
+     */
+    public ReflectInstantiator(Constructor<T> constructor) {
+        ArgUtil.notNull(constructor, "constructor");
+        this.constructor = constructor;
+    }
+
+    @Override
+    public Constructor<T> constructor() {
+        return constructor;
+    }
+
+    @Override
+    public T newInstance() {
+        return newInstance(EMPTY_ARGS);
+    }
+
+    @Override
+    public T newInstance(Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        } catch (InvocationTargetException e) {
+            final Throwable cause = e.getTargetException();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ReflectRumtionException(cause);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IMethodInvoker;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 基于 {@link Method#invoke(Object, Object...)} 的方法调用器
+ *
+ * 1. 作为 {@link MethodHandleMethodInvoker} 无法创建时的兜底实现。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class ReflectMethodInvoker implements IMethodInvoker {
+
+    /**
+     * 方法
+     */
+    private final Method method;
+
+    /**
+     * @param method 方法
+     */
+    public ReflectMethodInvoker(Method method) {
+        ArgUtil.notNull(method, "method");
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 安全管理器或者模块限制，保持原有的访问权限
+        }
+        this.method = method;
+    }
+
+    @Override
+    public Method method() {
+        return method;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        } catch (InvocationTargetException e) {
+            final Throwable cause = e.getTargetException();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ReflectRumtionException(cause);
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+/**
+ * 字段访问器、方法调用器和实例化器实现
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.reflect.accessor;
@@ -1,5 +1,6 @@
 package com.github.houbb.heaven.reflect.api;
 
+import java.lang.annotation.Annotation;
 import java.util.List;
 
 /**
@@ -21,4 +22,28 @@ public interface IClass extends IMember {
      */
     List<IMethod> methods();
 
+    /**
+     * 根据名称和参数类型获取方法
+     * @param name 方法名称
+     * @param paramTypes 参数类型
+     * @return 方法，不存在时返回 null
+     * @since 0.1.13
+     */
+    IMethod method(final String name, final Class... paramTypes);
+
+    /**
+     * 注解列表
+     * @return 注解列表
+     * @since 0.1.13
+     */
+    List<Annotation> annotations();
+
+    /**
+     * 根据注解类型获取对应的注解
+     * @param type 类型
+     * @return 注解，不存在时返回 null
+     * @since 0.1.13
+     */
+    Annotation annotation(final Class type);
+
 }
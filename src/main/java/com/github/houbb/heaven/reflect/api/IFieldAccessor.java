@@ -0,0 +1,70 @@
+package com.github.houbb.heaven.reflect.api;
+
+import java.lang.reflect.Field;
+
+/**
+ * 字段访问器
+ *
+ * 1. 每个字段创建一次，之后重复使用，不再进行访问权限检查。
+ * 2. 基本类型字段使用对应的 getXxx/setXxx 方法，避免装箱。
+ * 3. 静态字段忽略 target 参数。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see com.github.houbb.heaven.reflect.accessor.FieldAccessors 获取方式
+ */
+public interface IFieldAccessor {
+
+    /**
+     * 原始字段信息
+     * @return 字段
+     */
+    Field field();
+
+    /**
+     * 获取字段值，基本类型会被装箱
+     * @param target 目标对象
+     * @return 值
+     */
+    Object get(final Object target);
+
+    /**
+     * 设置字段值
+     * @param target 目标对象
+     * @param value 值
+     */
+    void set(final Object target, final Object value);
+
+    boolean getBoolean(final Object target);
+
+    byte getByte(final Object target);
+
+    char getChar(final Object target);
+
+    short getShort(final Object target);
+
+    int getInt(final Object target);
+
+    long getLong(final Object target);
+
+    float getFloat(final Object target);
+
+    double getDouble(final Object target);
+
+    void setBoolean(final Object target, final boolean value);
+
+    void setByte(final Object target, final byte value);
+
+    void setChar(final Object target, final char value);
+
+    void setShort(final Object target, final short value);
+
+    void setInt(final Object target, final int value);
+
+    void setLong(final Object target, final long value);
+
+    void setFloat(final Object target, final float value);
+
+    void setDouble(final Object target, final double value);
+
+}
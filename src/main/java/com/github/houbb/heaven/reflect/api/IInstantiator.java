@@ -0,0 +1,38 @@
+package com.github.houbb.heaven.reflect.api;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * 实例化器
+ *
+ * 1. 每个构造器创建一次，之后重复使用，不再进行访问权限检查。
+ * 2. 构造器本身抛出的运行时异常直接抛出，受检异常包装为 {@link com.github.houbb.heaven.reflect.exception.ReflectRumtionException}。
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see com.github.houbb.heaven.reflect.accessor.Instantiators 获取方式
+ */
+public interface IInstantiator<T> {
+
+    /**
+     * 原始构造器信息
+     * @return 构造器
+     */
+    Constructor<T> constructor();
+
+    /**
+     * 使用无参构造器创建实例
+     * 1. 构造器存在参数时抛出异常
+     * @return 实例
+     */
+    T newInstance();
+
+    /**
+     * 创建实例
+     * @param args 参数，数量需要和构造器参数一致
+     * @return 实例
+     */
+    T newInstance(final Object... args);
+
+}
@@ -1,9 +1,69 @@
 package com.github.houbb.heaven.reflect.api;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
 /**
  * 方法接口
+ *
+ * 1. {@link #type()} 为方法的返回值类型
+ *
  * @author binbin.hou
  * @since 0.1.5
  */
 public interface IMethod extends IMember {
+
+    /**
+     * 原始方法信息
+     * @return 方法
+     * @since 0.1.13
+     */
+    Method method();
+
+    /**
+     * 参数列表
+     * @return 参数列表
+     * @since 0.1.13
+     */
+    List<IParam> params();
+
+    /**
+     * 返回值信息
+     * @return 返回值信息
+     * @since 0.1.13
+     */
+    IReturn returns();
+
+    /**
+     * 注解列表
+     * @return 注解列表
+     * @since 0.1.13
+     */
+    List<Annotation> annotations();
+
+    /**
+     * 根据注解类型获取对应的注解
+     * @param type 类型
+     * @return 注解，不存在时返回 null
+     * @since 0.1.13
+     */
+    Annotation annotation(final Class type);
+
+    /**
+     * 方法调用器
+     * @return 调用器
+     * @since 0.1.13
+     */
+    IMethodInvoker invoker();
+
+    /**
+     * 调用方法
+     * @param target 目标对象
+     * @param args 参数
+     * @return 结果
+     * @since 0.1.13
+     */
+    Object invoke(final Object target, final Object... args);
+
 }
@@ -0,0 +1,32 @@
+package com.github.houbb.heaven.reflect.api;
+
+import java.lang.reflect.Method;
+
+/**
+ * 方法调用器
+ *
+ * 1. 每个方法创建一次，之后重复使用，不再进行访问权限检查。
+ * 2. 方法本身抛出的运行时异常直接抛出，受检异常包装为 {@link com.github.houbb.heaven.reflect.exception.ReflectRumtionException}。
+ * 3. 静态方法忽略 target 参数。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see com.github.houbb.heaven.reflect.accessor.MethodInvokers 获取方式
+ */
+public interface IMethodInvoker {
+
+    /**
+     * 原始方法信息
+     * @return 方法
+     */
+    Method method();
+
+    /**
+     * 调用方法
+     * @param target 目标对象
+     * @param args 参数，数量需要和方法参数一致
+     * @return 结果，void 方法返回 null
+     */
+    Object invoke(final Object target, final Object... args);
+
+}
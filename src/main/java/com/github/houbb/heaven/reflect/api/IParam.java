@@ -1,9 +1,46 @@
 package com.github.houbb.heaven.reflect.api;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+
 /**
  * 参数名称
+ *
+ * 1. jdk7 无法获取参数的真实名称，名称为 arg + 下标
+ *
  * @author binbin.hou
  * @since 0.1.5
  */
 public interface IParam extends IMember {
+
+    /**
+     * 参数下标
+     * @return 下标
+     * @since 0.1.13
+     */
+    int index();
+
+    /**
+     * 泛型类型
+     * @return 泛型类型
+     * @since 0.1.13
+     */
+    Type genericType();
+
+    /**
+     * 注解列表
+     * @return 注解列表
+     * @since 0.1.13
+     */
+    List<Annotation> annotations();
+
+    /**
+     * 根据注解类型获取对应的注解
+     * @param type 类型
+     * @return 注解，不存在时返回 null
+     * @since 0.1.13
+     */
+    Annotation annotation(final Class type);
+
 }
@@ -1,9 +1,19 @@
 package com.github.houbb.heaven.reflect.api;
 
+import java.lang.reflect.Type;
+
 /**
  * 返回值信息
  * @author binbin.hou
  * @since 0.1.5
  */
 public interface IReturn extends IMember {
+
+    /**
+     * 泛型类型
+     * @return 泛型类型
+     * @since 0.1.13
+     */
+    Type genericType();
+
 }
@@ -0,0 +1,261 @@
+package com.github.houbb.heaven.reflect.handler;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.reflect.api.IMethod;
+import com.github.houbb.heaven.reflect.api.IMethodInvoker;
+import com.github.houbb.heaven.reflect.api.IParam;
+import com.github.houbb.heaven.reflect.api.IReturn;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 不可变的方法信息
+ *
+ * 1. {@link SimpleClassHandler} 缓存的方法信息在所有线程之间共享，没有任何修改方法，参数和返回值同样不可变。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+final class ImmutableMethod implements IMethod {
+
+    private final String name;
+
+    private final String fullName;
+
+    private final Class<?> type;
+
+    private final int access;
+
+    private final Method method;
+
+    private final List<IParam> params;
+
+    private final IReturn returns;
+
+    private final List<Annotation> annotations;
+
+    private final IMethodInvoker invoker;
+
+    /**
+     * @param method 方法信息，参数和返回值会被复制为不可变对象
+     */
+    ImmutableMethod(final IMethod method) {
+        this.name = method.name();
+        this.fullName = method.fullName();
+        this.type = method.type();
+        this.access = method.access();
+        this.method = method.method();
+        this.returns = new ImmutableReturn(method.returns());
+        this.annotations = method.annotations();
+        this.invoker = method.invoker();
+
+        List<IParam> paramList = new ArrayList<>(method.params().size());
+        for (IParam param : method.params()) {
+            paramList.add(new ImmutableParam(param));
+        }
+        this.params = Collections.unmodifiableList(paramList);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String fullName() {
+        return fullName;
+    }
+
+    @Override
+    public Class type() {
+        return type;
+    }
+
+    @Override
+    public int access() {
+        return access;
+    }
+
+    @Override
+    public Method method() {
+        return method;
+    }
+
+    @Override
+    public List<IParam> params() {
+        return params;
+    }
+
+    @Override
+    public IReturn returns() {
+        return returns;
+    }
+
+    @Override
+    public List<Annotation> annotations() {
+        return annotations;
+    }
+
+    @Override
+    public Annotation annotation(Class type) {
+        return find(annotations, type);
+    }
+
+    @Override
+    public IMethodInvoker invoker() {
+        return invoker;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) {
+        return invoker.invoke(target, args);
+    }
+
+    /**
+     * 根据注解类型查找注解
+     * @param annotations 注解列表
+     * @param type 类型
+     * @return 注解，不存在时返回 null
+     */
+    private static Annotation find(final List<Annotation> annotations, final Class type) {
+        ArgUtil.notNull(type, "type");
+
+        for (Annotation annotation : annotations) {
+            if (type.equals(annotation.annotationType())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 不可变的参数信息
+     */
+    @Immutable
+    private static final class ImmutableParam implements IParam {
+
+        private final String name;
+
+        private final String fullName;
+
+        private final Class<?> type;
+
+        private final int access;
+
+        private final int index;
+
+        private final Type genericType;
+
+        private final List<Annotation> annotations;
+
+        private ImmutableParam(final IParam param) {
+            this.name = param.name();
+            this.fullName = param.fullName();
+            this.type = param.type();
+            this.access = param.access();
+            this.index = param.index();
+            this.genericType = param.genericType();
+            this.annotations = param.annotations();
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String fullName() {
+            return fullName;
+        }
+
+        @Override
+        public Class type() {
+            return type;
+        }
+
+        @Override
+        public int access() {
+            return access;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public Type genericType() {
+            return genericType;
+        }
+
+        @Override
+        public List<Annotation> annotations() {
+            return annotations;
+        }
+
+        @Override
+        public Annotation annotation(Class type) {
+            return find(annotations, type);
+        }
+
+    }
+
+    /**
+     * 不可变的返回值信息
+     */
+    @Immutable
+    private static final class ImmutableReturn implements IReturn {
+
+        private final String name;
+
+        private final String fullName;
+
+        private final Class<?> type;
+
+        private final int access;
+
+        private final Type genericType;
+
+        private ImmutableReturn(final IReturn returns) {
+            this.name = returns.name();
+            this.fullName = returns.fullName();
+            this.type = returns.type();
+            this.access = returns.access();
+            this.genericType = returns.genericType();
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String fullName() {
+            return fullName;
+        }
+
+        @Override
+        public Class type() {
+            return type;
+        }
+
+        @Override
+        public int access() {
+            return access;
+        }
+
+        @Override
+        public Type genericType() {
+            return genericType;
+        }
+
+    }
+
+}
@@ -1,22 +1,151 @@
 package com.github.houbb.heaven.reflect.handler;
 
+import com.github.houbb.heaven.annotation.Immutable;
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.reflect.simple.SimpleAnnotation;
+import com.github.houbb.heaven.reflect.api.IMethod;
 import com.github.houbb.heaven.reflect.simple.SimpleClass;
 import com.github.houbb.heaven.support.handler.IHandler;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
+ * 类信息处理类
+ *
+ * 1. 每个类只解析一次，结果基于 {@link ClassValue} 缓存，不会阻止类加载器被回收。
+ * 2. 缓存的是不可变的快照，每次返回新的 {@link SimpleClass}，调用方修改返回值不会影响其他线程。
+ * 列表和映射不可修改，其中的方法信息在多个线程之间共享，本身也是不可变的。
+ * 3. 方法列表为 {@link Class#getMethods()}，即所有 public 方法，包含父类和接口。
+ *
  * @author binbin.hou
  * @since 0.1.5
  */
 @ThreadSafe
 public class SimpleClassHandler implements IHandler<Class, SimpleClass> {
 
+    /**
+     * 类信息缓存
+     * @since 0.1.13
+     */
+    private static final ClassValue<ClassSnapshot> CACHE = new ClassValue<ClassSnapshot>() {
+        @Override
+        protected ClassSnapshot computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
     @Override
     public SimpleClass handle(Class aClass) {
-        return null;
+        return CACHE.get(aClass).toSimpleClass();
+    }
+
+    /**
+     * 获取缓存的方法信息
+     * @param method 方法
+     * @return 方法信息，不是 public 方法时返回 null
+     * @since 0.1.13
+     */
+    static IMethod method(final Method method) {
+        return CACHE.get(method.getDeclaringClass()).methodMap.get(method);
+    }
+
+    /**
+     * 构建类信息
+     * @param type 类型
+     * @return 类信息
+     * @since 0.1.13
+     */
+    private static ClassSnapshot build(final Class<?> type) {
+        List<IMethod> methodList = new ArrayList<>();
+        Map<Method, IMethod> methodMap = new HashMap<>();
+        Map<String, List<IMethod>> methodNameMap = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (method.isBridge()) {
+                continue;
+            }
+            IMethod immutableMethod = new ImmutableMethod(SimpleMethodHandler.build(method));
+            methodList.add(immutableMethod);
+            methodMap.put(method, immutableMethod);
+
+            List<IMethod> sameNameList = methodNameMap.get(method.getName());
+            if (sameNameList == null) {
+                sameNameList = new ArrayList<>(1);
+                methodNameMap.put(method.getName(), sameNameList);
+            }
+            sameNameList.add(immutableMethod);
+        }
+        for (Map.Entry<String, List<IMethod>> entry : methodNameMap.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+
+        return new ClassSnapshot(type,
+                Collections.unmodifiableList(methodList),
+                Collections.unmodifiableMap(methodMap),
+                Collections.unmodifiableMap(methodNameMap),
+                Collections.unmodifiableList(Arrays.asList(type.getAnnotations())));
+    }
+
+    /**
+     * 类信息的不可变快照
+     * @since 0.1.13
+     */
+    @Immutable
+    private static final class ClassSnapshot {
+
+        private final Class<?> type;
+
+        private final String name;
+
+        private final String fullName;
+
+        private final int access;
+
+        private final List<IMethod> methods;
+
+        private final Map<Method, IMethod> methodMap;
+
+        private final Map<String, List<IMethod>> methodNameMap;
+
+        private final List<Annotation> annotations;
+
+        private ClassSnapshot(Class<?> type,
+                              List<IMethod> methods,
+                              Map<Method, IMethod> methodMap,
+                              Map<String, List<IMethod>> methodNameMap,
+                              List<Annotation> annotations) {
+            this.type = type;
+            this.name = type.getSimpleName();
+            this.fullName = type.getName();
+            this.access = type.getModifiers();
+            this.methods = methods;
+            this.methodMap = methodMap;
+            this.methodNameMap = methodNameMap;
+            this.annotations = annotations;
+        }
+
+        /**
+         * 创建新的类信息
+         * @return 类信息
+         */
+        private SimpleClass toSimpleClass() {
+            SimpleClass simpleClass = new SimpleClass();
+            simpleClass.name(name)
+                    .fullName(fullName)
+                    .type(type)
+                    .access(access)
+                    .methods(methods)
+                    .methodMap(methodMap)
+                    .methodNameMap(methodNameMap)
+                    .annotations(annotations);
+            return simpleClass;
+        }
+
     }
 
 }
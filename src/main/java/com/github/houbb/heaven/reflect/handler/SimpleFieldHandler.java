@@ -1,11 +1,12 @@
 package com.github.houbb.heaven.reflect.handler;
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.meta.FieldMeta;
 import com.github.houbb.heaven.reflect.simple.SimpleField;
+import com.github.houbb.heaven.reflect.util.ClassMetas;
 import com.github.houbb.heaven.support.handler.IHandler;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
 
 /**
  * @author binbin.hou
@@ -21,7 +22,9 @@ public class SimpleFieldHandler implements IHandler<Field, SimpleField> {
         simpleField.name(field.getName());
         simpleField.fullName(field.getName());
         simpleField.type(field.getType());
-        simpleField.annotations(Arrays.asList(field.getAnnotations()));
+        FieldMeta fieldMeta = ClassMetas.get(field.getDeclaringClass()).field(field.getName());
+        simpleField.annotations(fieldMeta.annotations());
+        simpleField.annotationMap(fieldMeta.annotationMap());
         simpleField.access(field.getModifiers());
         return simpleField;
     }
@@ -1,14 +1,28 @@
 package com.github.houbb.heaven.reflect.handler;
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.reflect.simple.SimpleField;
+import com.github.houbb.heaven.reflect.accessor.MethodInvokers;
+import com.github.houbb.heaven.reflect.api.IMethod;
+import com.github.houbb.heaven.reflect.api.IParam;
 import com.github.houbb.heaven.reflect.simple.SimpleMethod;
+import com.github.houbb.heaven.reflect.simple.SimpleParam;
+import com.github.houbb.heaven.reflect.simple.SimpleReturn;
 import com.github.houbb.heaven.support.handler.IHandler;
 
-import java.lang.reflect.Field;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
+ * 方法信息处理类
+ *
+ * 1. public 方法复制 {@link SimpleClassHandler} 中缓存的结果，参数、返回值和调用器共享。
+ * 2. 其他方法每次重新构建，调用方需要自行缓存。
+ *
  * @author binbin.hou
  * @since 0.1.5
  */
@@ -17,6 +31,79 @@ public class SimpleMethodHandler implements IHandler<Method, SimpleMethod> {
 
     @Override
     public SimpleMethod handle(Method method) {
-        return null;
+        IMethod cached = SimpleClassHandler.method(method);
+        if (cached != null) {
+            return copy(cached);
+        }
+        return build(method);
     }
+
+    /**
+     * 复制方法信息
+     * 1. 缓存的方法信息在多个线程之间共享，返回副本避免调用方修改
+     * @param method 方法信息
+     * @return 副本
+     * @since 0.1.13
+     */
+    private static SimpleMethod copy(final IMethod method) {
+        SimpleMethod simpleMethod = new SimpleMethod();
+        simpleMethod.name(method.name())
+                .fullName(method.fullName())
+                .type(method.type())
+                .access(method.access())
+                .method(method.method())
+                .params(method.params())
+                .returns(method.returns())
+                .annotations(method.annotations())
+                .invoker(method.invoker());
+        return simpleMethod;
+    }
+
+    /**
+     * 构建方法信息
+     * @param method 方法
+     * @return 方法信息
+     * @since 0.1.13
+     */
+    static SimpleMethod build(final Method method) {
+        final String fullName = method.getDeclaringClass().getName() + "." + method.getName();
+
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        final Type[] genericParamTypes = method.getGenericParameterTypes();
+        final Annotation[][] paramAnnotations = method.getParameterAnnotations();
+        List<IParam> paramList = new ArrayList<>(paramTypes.length);
+        for (int i = 0; i < paramTypes.length; i++) {
+            // 内部类构造器等场景下，泛型参数数量可能和实际参数数量不一致
+            final Type genericType = genericParamTypes.length == paramTypes.length ? genericParamTypes[i] : paramTypes[i];
+            final String paramName = "arg" + i;
+            SimpleParam param = new SimpleParam();
+            param.name(paramName)
+                    .fullName(fullName + "#" + paramName)
+                    .type(paramTypes[i])
+                    .index(i)
+                    .genericType(genericType)
+                    .annotations(Collections.unmodifiableList(Arrays.asList(paramAnnotations[i])));
+            paramList.add(param);
+        }
+
+        final Class<?> returnType = method.getReturnType();
+        SimpleReturn simpleReturn = new SimpleReturn();
+        simpleReturn.name(returnType.getSimpleName())
+                .fullName(returnType.getName())
+                .type(returnType)
+                .genericType(method.getGenericReturnType());
+
+        SimpleMethod simpleMethod = new SimpleMethod();
+        simpleMethod.name(method.getName())
+                .fullName(fullName)
+                .type(returnType)
+                .access(method.getModifiers())
+                .method(method)
+                .params(Collections.unmodifiableList(paramList))
+                .returns(simpleReturn)
+                .annotations(Collections.unmodifiableList(Arrays.asList(method.getAnnotations())))
+                .invoker(MethodInvokers.of(method));
+        return simpleMethod;
+    }
+
 }
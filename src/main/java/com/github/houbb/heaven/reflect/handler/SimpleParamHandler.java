@@ -1,13 +1,17 @@
 package com.github.houbb.heaven.reflect.handler;
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.reflect.simple.SimpleMethod;
 import com.github.houbb.heaven.reflect.simple.SimpleParam;
 import com.github.houbb.heaven.support.handler.IHandler;
 
-import java.lang.reflect.Method;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
 
 /**
+ * 参数信息处理类
+ *
+ * 1. 只根据类型构建，不包含下标和注解；方法的参数信息参见 {@link SimpleMethodHandler}
+ *
  * @author binbin.hou
  * @since 0.1.5
  */
@@ -16,7 +20,13 @@ public class SimpleParamHandler implements IHandler<Class, SimpleParam> {
 
     @Override
     public SimpleParam handle(Class aClass) {
-        return null;
+        SimpleParam simpleParam = new SimpleParam();
+        simpleParam.name(aClass.getSimpleName())
+                .fullName(aClass.getName())
+                .type(aClass)
+                .genericType(aClass)
+                .annotations(Collections.<Annotation>emptyList());
+        return simpleParam;
     }
 
 }
@@ -1,11 +1,14 @@
 package com.github.houbb.heaven.reflect.handler;
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.reflect.simple.SimpleParam;
 import com.github.houbb.heaven.reflect.simple.SimpleReturn;
 import com.github.houbb.heaven.support.handler.IHandler;
 
 /**
+ * 返回值信息处理类
+ *
+ * 1. 只根据类型构建；方法的返回值信息参见 {@link SimpleMethodHandler}
+ *
  * @author binbin.hou
  * @since 0.1.5
  */
@@ -14,7 +17,12 @@ public class SimpleReturnHandler implements IHandler<Class, SimpleReturn> {
 
     @Override
     public SimpleReturn handle(Class aClass) {
-        return null;
+        SimpleReturn simpleReturn = new SimpleReturn();
+        simpleReturn.name(aClass.getSimpleName())
+                .fullName(aClass.getName())
+                .type(aClass)
+                .genericType(aClass);
+        return simpleReturn;
     }
 
 }
@@ -0,0 +1,306 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.annotation.Immutable;
+
+import java.beans.Introspector;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 类元数据
+ *
+ * 1. 字段顺序和 {@link com.github.houbb.heaven.util.lang.reflect.ClassUtil#getAllFieldList(Class)} 一致，先子类后父类。
+ * 2. 子类和父类存在同名字段时，按名称查找返回子类的字段。
+ * 3. 属性由 public 的读写方法和非静态字段共同组成，按名称查找。
+ * 4. 注解和字段的索引、泛型元数据在第一次使用时构建。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see com.github.houbb.heaven.reflect.util.ClassMetas 获取方式
+ */
+@Immutable
+public final class ClassMeta {
+
+    /**
+     * 类型
+     */
+    private final Class type;
+
+    /**
+     * 字段列表（不可变）
+     */
+    private final List<FieldMeta> fields;
+
+    /**
+     * 名称和字段的映射
+     */
+    private final Map<String, FieldMeta> fieldMap;
+
+    /**
+     * 名称和属性的映射
+     */
+    private final Map<String, PropertyMeta> propertyMap;
+
+    /**
+     * 注解类型和字段列表的映射
+     * 1. 延迟构建，多个线程同时构建时结果相同，不需要加锁
+     */
+    private volatile Map<Class<? extends Annotation>, List<FieldMeta>> annotationFieldMap;
+
+    /**
+     * 泛型元数据
+     * 1. 延迟构建，多个线程同时构建时结果相同，不需要加锁
+     */
+    private volatile GenericMeta generic;
+
+    /**
+     * @param type 类型
+     */
+    public ClassMeta(final Class type) {
+        this.type = type;
+
+        List<FieldMeta> fieldList = new ArrayList<>();
+        Map<String, FieldMeta> map = new HashMap<>();
+        Class tempClass = type;
+        while (tempClass != null) {
+            for (Field field : tempClass.getDeclaredFields()) {
+                FieldMeta fieldMeta = new FieldMeta(field);
+                fieldList.add(fieldMeta);
+                if (!map.containsKey(fieldMeta.name())) {
+                    map.put(fieldMeta.name(), fieldMeta);
+                }
+            }
+            tempClass = tempClass.getSuperclass();
+        }
+        this.fields = Collections.unmodifiableList(fieldList);
+        this.fieldMap = map;
+        this.propertyMap = Collections.unmodifiableMap(buildPropertyMap());
+    }
+
+    /**
+     * 构建属性映射
+     * @return 结果
+     */
+    private Map<String, PropertyMeta> buildPropertyMap() {
+        Map<String, Method> getterMap = new HashMap<>();
+        Map<String, Method> isGetterMap = new HashMap<>();
+        Map<String, List<Method>> setterMap = new HashMap<>();
+
+        // 先字段，后方法，保证属性顺序稳定
+        Set<String> nameSet = new LinkedHashSet<>();
+        for (FieldMeta fieldMeta : fields) {
+            if (!Modifier.isStatic(fieldMeta.access())) {
+                nameSet.add(fieldMeta.name());
+            }
+        }
+
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())
+                    || method.isBridge()) {
+                continue;
+            }
+
+            final String methodName = method.getName();
+            final Class<?>[] paramTypes = method.getParameterTypes();
+            final Class<?> returnType = method.getReturnType();
+            if (paramTypes.length == 0
+                    && returnType != void.class) {
+                if (methodName.length() > 3
+                        && methodName.startsWith("get")
+                        && !"getClass".equals(methodName)) {
+                    final String name = Introspector.decapitalize(methodName.substring(3));
+                    getterMap.put(name, method);
+                    nameSet.add(name);
+                } else if (methodName.length() > 2
+                        && methodName.startsWith("is")
+                        && returnType == boolean.class) {
+                    final String name = Introspector.decapitalize(methodName.substring(2));
+                    isGetterMap.put(name, method);
+                    nameSet.add(name);
+                }
+            } else if (paramTypes.length == 1
+                    && methodName.length() > 3
+                    && methodName.startsWith("set")) {
+                final String name = Introspector.decapitalize(methodName.substring(3));
+                List<Method> setterList = setterMap.get(name);
+                if (setterList == null) {
+                    setterList = new ArrayList<>(1);
+                    setterMap.put(name, setterList);
+                }
+                setterList.add(method);
+                nameSet.add(name);
+            }
+        }
+
+        Map<String, PropertyMeta> resultMap = new LinkedHashMap<>();
+        for (String name : nameSet) {
+            FieldMeta fieldMeta = fieldMap.get(name);
+            if (fieldMeta != null
+                    && Modifier.isStatic(fieldMeta.access())) {
+                fieldMeta = null;
+            }
+
+            // 和 Introspector 保持一致，isXxx 只识别基本类型 boolean，并且优先于 getXxx
+            final Method readMethod = isGetterMap.containsKey(name) ? isGetterMap.get(name) : getterMap.get(name);
+            Class propertyType = null;
+            if (readMethod != null) {
+                propertyType = readMethod.getReturnType();
+            } else if (fieldMeta != null) {
+                propertyType = fieldMeta.type();
+            }
+
+            Method writeMethod = null;
+            final List<Method> setterList = setterMap.get(name);
+            if (setterList != null) {
+                for (Method setter : setterList) {
+                    final Class<?> paramType = setter.getParameterTypes()[0];
+                    if (propertyType == null || paramType == propertyType) {
+                        writeMethod = setter;
+                        propertyType = paramType;
+                        break;
+                    }
+                }
+            }
+
+            if (readMethod == null
+                    && writeMethod == null
+                    && fieldMeta == null) {
+                continue;
+            }
+            resultMap.put(name, new PropertyMeta(name, propertyType,
+                    accessible(readMethod), accessible(writeMethod), fieldMeta));
+        }
+        return resultMap;
+    }
+
+    /**
+     * 设置方法可访问
+     * 1. 非 public 类中的 public 方法，外部调用时同样需要设置
+     * @param method 方法
+     * @return 方法
+     */
+    private static Method accessible(final Method method) {
+        if (method != null) {
+            try {
+                method.setAccessible(true);
+            } catch (RuntimeException e) {
+                // 安全管理器或者模块限制，保持原有的访问权限
+            }
+        }
+        return method;
+    }
+
+    public Class type() {
+        return type;
+    }
+
+    /**
+     * 所有字段，包含父类
+     * @return 不可变列表
+     */
+    public List<FieldMeta> fields() {
+        return fields;
+    }
+
+    /**
+     * 根据名称获取字段
+     * @param name 名称
+     * @return 字段，不存在时返回 null
+     */
+    public FieldMeta field(final String name) {
+        return fieldMap.get(name);
+    }
+
+    /**
+     * 所有属性
+     * @return 不可变集合
+     */
+    public Collection<PropertyMeta> properties() {
+        return propertyMap.values();
+    }
+
+    /**
+     * 根据名称获取属性
+     * @param name 名称
+     * @return 属性，不存在时返回 null
+     */
+    public PropertyMeta property(final String name) {
+        return propertyMap.get(name);
+    }
+
+    /**
+     * 泛型元数据
+     * @return 泛型元数据
+     */
+    public GenericMeta generic() {
+        GenericMeta result = generic;
+        if (result == null) {
+            result = new GenericMeta(type);
+            generic = result;
+        }
+        return result;
+    }
+
+    /**
+     * 包含指定注解的字段
+     * @param annotationClass 注解类型
+     * @return 不可变列表，不存在时返回空列表
+     */
+    public List<FieldMeta> annotatedFields(final Class<? extends Annotation> annotationClass) {
+        Map<Class<? extends Annotation>, List<FieldMeta>> map = annotationFieldMap;
+        if (map == null) {
+            map = buildAnnotationFieldMap();
+            annotationFieldMap = map;
+        }
+
+        List<FieldMeta> resultList = map.get(annotationClass);
+        if (resultList == null) {
+            return Collections.emptyList();
+        }
+        return resultList;
+    }
+
+    /**
+     * 构建注解和字段的映射
+     * @return 结果
+     */
+    private Map<Class<? extends Annotation>, List<FieldMeta>> buildAnnotationFieldMap() {
+        Map<Class<? extends Annotation>, List<FieldMeta>> map = new HashMap<>();
+        for (FieldMeta fieldMeta : fields) {
+            for (Annotation annotation : fieldMeta.annotations()) {
+                final Class<? extends Annotation> annotationClass = annotation.annotationType();
+                List<FieldMeta> fieldMetaList = map.get(annotationClass);
+                if (fieldMetaList == null) {
+                    fieldMetaList = new ArrayList<>(1);
+                    map.put(annotationClass, fieldMetaList);
+                }
+                fieldMetaList.add(fieldMeta);
+            }
+        }
+
+        for (Map.Entry<Class<? extends Annotation>, List<FieldMeta>> entry : map.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassMeta{" +
+                "type=" + type +
+                ", fields=" + fields +
+                '}';
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.reflect.accessor.FieldAccessors;
+import com.github.houbb.heaven.reflect.api.IFieldAccessor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 字段元数据
+ *
+ * 1. 字段已经尽可能设置为可访问，直接使用即可；受模块限制的 jdk 内部字段除外。
+ * 2. 不包含字段值，需要存放值时使用 {@link com.github.houbb.heaven.reflect.api.IField}。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class FieldMeta {
+
+    /**
+     * 原始字段信息
+     */
+    private final Field field;
+
+    /**
+     * 字段名称
+     */
+    private final String name;
+
+    /**
+     * 字段类型
+     */
+    private final Class type;
+
+    /**
+     * 访问权限
+     */
+    private final int access;
+
+    /**
+     * 注解列表（不可变）
+     */
+    private final List<Annotation> annotations;
+
+    /**
+     * 注解类型和注解的映射（不可变）
+     */
+    private final Map<Class<? extends Annotation>, Annotation> annotationMap;
+
+    /**
+     * 访问器
+     */
+    private final IFieldAccessor accessor;
+
+    /**
+     * @param field 字段
+     */
+    FieldMeta(final Field field) {
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 安全管理器或者模块限制，保持原有的访问权限，读写时再抛出异常
+        }
+
+        this.field = field;
+        this.name = field.getName();
+        this.type = field.getType();
+        this.access = field.getModifiers();
+        this.annotations = Collections.unmodifiableList(Arrays.asList(field.getAnnotations()));
+        this.annotationMap = buildAnnotationMap(annotations);
+        this.accessor = FieldAccessors.of(field);
+    }
+
+    public Field field() {
+        return field;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class type() {
+        return type;
+    }
+
+    public int access() {
+        return access;
+    }
+
+    public List<Annotation> annotations() {
+        return annotations;
+    }
+
+    /**
+     * 注解类型和注解的映射
+     * @return 不可变映射
+     */
+    public Map<Class<? extends Annotation>, Annotation> annotationMap() {
+        return annotationMap;
+    }
+
+    /**
+     * 根据注解类型获取注解
+     * @param annotationClass 注解类型
+     * @param <A> 泛型
+     * @return 注解，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> A annotation(final Class<A> annotationClass) {
+        return (A) annotationMap.get(annotationClass);
+    }
+
+    /**
+     * 构建注解映射
+     * @param annotationList 注解列表
+     * @return 结果
+     */
+    private static Map<Class<? extends Annotation>, Annotation> buildAnnotationMap(final List<Annotation> annotationList) {
+        if (annotationList.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Class<? extends Annotation>, Annotation> map = new HashMap<>(annotationList.size() * 2);
+        for (Annotation annotation : annotationList) {
+            map.put(annotation.annotationType(), annotation);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    public IFieldAccessor accessor() {
+        return accessor;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldMeta{" +
+                "name='" + name + '\'' +
+                ", type=" + type +
+                '}';
+    }
+
+}
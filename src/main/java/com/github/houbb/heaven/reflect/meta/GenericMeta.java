@@ -0,0 +1,245 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.util.lang.reflect.ClassGenericUtil;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 泛型元数据
+ *
+ * 创建时遍历整个继承体系（父类链和所有接口），将每一层声明的类型变量替换为子类指定的实际类型。
+ *
+ * 比如 {@code class UserHandler extends AbstractHandler<User>}，{@code AbstractHandler<T> implements Handler<T>}，
+ * 那么 UserHandler 对于 Handler 的第 0 个泛型为 User。
+ *
+ * 1. 无法确定的类型变量保留为 {@link TypeVariable}，转换为 class 时使用其上界。
+ * 2. 获取父类型的泛型只是一次 map 查找。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see ClassMeta#generic() 获取方式
+ */
+@Immutable
+public final class GenericMeta {
+
+    /**
+     * 类型
+     */
+    private final Class type;
+
+    /**
+     * 类型变量和实际类型的映射
+     */
+    private final Map<TypeVariable, Type> bindings;
+
+    /**
+     * 父类型（包含自身）和泛型参数的映射
+     */
+    private final Map<Class, TypeArguments> superTypeMap;
+
+    /**
+     * @param type 类型
+     */
+    GenericMeta(final Class type) {
+        this.type = type;
+
+        Map<TypeVariable, Type> bindingMap = new HashMap<>();
+        Map<Class, TypeArguments> typeMap = new LinkedHashMap<>();
+        visit(type, bindingMap, typeMap);
+        this.bindings = bindingMap;
+        this.superTypeMap = Collections.unmodifiableMap(typeMap);
+    }
+
+    /**
+     * 遍历父类型
+     * @param current 当前类型
+     * @param bindingMap 类型变量映射
+     * @param typeMap 结果
+     */
+    private static void visit(final Type current,
+                              final Map<TypeVariable, Type> bindingMap,
+                              final Map<Class, TypeArguments> typeMap) {
+        final Class raw;
+        final Type[] args;
+        if (current instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) current;
+            raw = (Class) parameterizedType.getRawType();
+            if (typeMap.containsKey(raw)) {
+                return;
+            }
+
+            Type[] actualArgs = parameterizedType.getActualTypeArguments();
+            TypeVariable[] variables = raw.getTypeParameters();
+            args = new Type[actualArgs.length];
+            for (int i = 0; i < actualArgs.length; i++) {
+                args[i] = resolve(actualArgs[i], bindingMap);
+                bindingMap.put(variables[i], args[i]);
+            }
+        } else if (current instanceof Class) {
+            // 自身或者以原始类型继承，类型变量无法确定
+            raw = (Class) current;
+            if (typeMap.containsKey(raw)) {
+                return;
+            }
+            args = raw.getTypeParameters();
+        } else {
+            return;
+        }
+
+        typeMap.put(raw, new TypeArguments(args));
+        final Type superType = raw.getGenericSuperclass();
+        if (superType != null) {
+            visit(superType, bindingMap, typeMap);
+        }
+        for (Type interfaceType : raw.getGenericInterfaces()) {
+            visit(interfaceType, bindingMap, typeMap);
+        }
+    }
+
+    /**
+     * 替换类型中的类型变量
+     * @param current 类型
+     * @param bindingMap 类型变量映射
+     * @return 结果
+     */
+    private static Type resolve(final Type current, final Map<TypeVariable, Type> bindingMap) {
+        if (current instanceof TypeVariable) {
+            final Type bound = bindingMap.get(current);
+            return bound == null ? current : bound;
+        }
+
+        if (current instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) current;
+            Type[] args = parameterizedType.getActualTypeArguments();
+            boolean changed = false;
+            for (int i = 0; i < args.length; i++) {
+                final Type resolved = resolve(args[i], bindingMap);
+                if (resolved != args[i]) {
+                    args[i] = resolved;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                return current;
+            }
+            return new ResolvedParameterizedType(parameterizedType.getOwnerType(),
+                    (Class) parameterizedType.getRawType(), args);
+        }
+
+        if (current instanceof GenericArrayType) {
+            final Type componentType = ((GenericArrayType) current).getGenericComponentType();
+            final Type resolved = resolve(componentType, bindingMap);
+            if (resolved == componentType) {
+                return current;
+            }
+            if (resolved instanceof Class) {
+                return Array.newInstance((Class) resolved, 0).getClass();
+            }
+            return new ResolvedGenericArrayType(resolved);
+        }
+
+        return current;
+    }
+
+    public Class type() {
+        return type;
+    }
+
+    /**
+     * 父类型的泛型参数
+     * @param superType 父类或者接口，也可以是自身
+     * @return 不可变列表，不是父类型时返回 null
+     */
+    public List<Type> typeArguments(final Class superType) {
+        TypeArguments typeArguments = superTypeMap.get(superType);
+        if (typeArguments == null) {
+            return null;
+        }
+        return typeArguments.types;
+    }
+
+    /**
+     * 父类型指定下标的泛型参数
+     * @param superType 父类或者接口，也可以是自身
+     * @param index 泛型下标
+     * @return 对应的 class，不是父类型时返回 null
+     */
+    public Class typeArgument(final Class superType, final int index) {
+        TypeArguments typeArguments = superTypeMap.get(superType);
+        if (typeArguments == null) {
+            return null;
+        }
+        return typeArguments.classes[index];
+    }
+
+    /**
+     * 在当前类的上下文中解析类型
+     *
+     * 比如父类中声明的字段、方法参数的类型
+     *
+     * @param genericType 类型
+     * @return 结果
+     */
+    public Type resolve(final Type genericType) {
+        return resolve(genericType, bindings);
+    }
+
+    /**
+     * 在当前类的上下文中解析类型，并转换为 class
+     * @param genericType 类型
+     * @return 结果
+     */
+    public Class resolveClass(final Type genericType) {
+        return ClassGenericUtil.getRawClass(resolve(genericType));
+    }
+
+    @Override
+    public String toString() {
+        return "GenericMeta{" +
+                "type=" + type +
+                ", superTypeMap=" + superTypeMap +
+                '}';
+    }
+
+    /**
+     * 泛型参数
+     */
+    private static final class TypeArguments {
+
+        /**
+         * 解析后的类型
+         */
+        private final List<Type> types;
+
+        /**
+         * 对应的 class
+         */
+        private final Class[] classes;
+
+        private TypeArguments(final Type[] args) {
+            this.types = Collections.unmodifiableList(Arrays.asList(args));
+            this.classes = new Class[args.length];
+            for (int i = 0; i < args.length; i++) {
+                classes[i] = ClassGenericUtil.getRawClass(args[i]);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return types.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 属性元数据
+ *
+ * 1. 读写方法按照 java bean 规范匹配，boolean 类型同时支持 isXxx。
+ * 2. 缺少读写方法时，使用同名的字段兜底；三者都可能为空，但是不会同时为空。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class PropertyMeta {
+
+    /**
+     * 属性名称
+     */
+    private final String name;
+
+    /**
+     * 属性类型
+     */
+    private final Class type;
+
+    /**
+     * 读方法
+     */
+    private final Method readMethod;
+
+    /**
+     * 写方法
+     */
+    private final Method writeMethod;
+
+    /**
+     * 同名字段
+     */
+    private final FieldMeta field;
+
+    PropertyMeta(String name, Class type, Method readMethod, Method writeMethod, FieldMeta field) {
+        this.name = name;
+        this.type = type;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.field = field;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class type() {
+        return type;
+    }
+
+    /**
+     * 读方法
+     * @return 不存在时返回 null
+     */
+    public Method readMethod() {
+        return readMethod;
+    }
+
+    /**
+     * 写方法
+     * @return 不存在时返回 null
+     */
+    public Method writeMethod() {
+        return writeMethod;
+    }
+
+    /**
+     * 同名字段
+     * @return 不存在时返回 null
+     */
+    public FieldMeta field() {
+        return field;
+    }
+
+    /**
+     * 是否可读
+     * @return 是否
+     */
+    public boolean readable() {
+        return readMethod != null || field != null;
+    }
+
+    /**
+     * 是否可写
+     * @return 是否
+     */
+    public boolean writable() {
+        return writeMethod != null || field != null;
+    }
+
+    /**
+     * 读取属性值
+     *
+     * 1. 优先使用读方法，其次使用字段
+     *
+     * @param target 目标对象
+     * @return 值
+     */
+    public Object get(final Object target) {
+        if (readMethod != null) {
+            return invoke(readMethod, target);
+        }
+        if (field != null) {
+            return field.accessor().get(target);
+        }
+        throw new ReflectRumtionException("Property is not readable: " + name);
+    }
+
+    /**
+     * 设置属性值
+     *
+     * 1. 优先使用写方法，其次使用字段
+     *
+     * @param target 目标对象
+     * @param value 值
+     */
+    public void set(final Object target, final Object value) {
+        if (writeMethod != null) {
+            invoke(writeMethod, target, value);
+            return;
+        }
+        if (field != null) {
+            field.accessor().set(target, value);
+            return;
+        }
+        throw new ReflectRumtionException("Property is not writable: " + name);
+    }
+
+    /**
+     * 调用方法
+     * @param method 方法
+     * @param target 目标对象
+     * @param args 参数
+     * @return 结果
+     */
+    private static Object invoke(final Method method, final Object target, final Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new ReflectRumtionException(e);
+        } catch (InvocationTargetException e) {
+            throw new ReflectRumtionException(e.getTargetException());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyMeta{" +
+                "name='" + name + '\'' +
+                ", type=" + type +
+                '}';
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.annotation.Immutable;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Type;
+
+/**
+ * 替换类型变量后的泛型数组类型
+ *
+ * 1. equals/hashCode 和 jdk 的实现保持一致，可以互相比较
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+final class ResolvedGenericArrayType implements GenericArrayType {
+
+    private final Type componentType;
+
+    ResolvedGenericArrayType(Type componentType) {
+        this.componentType = componentType;
+    }
+
+    @Override
+    public Type getGenericComponentType() {
+        return componentType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GenericArrayType
+                && componentType.equals(((GenericArrayType) o).getGenericComponentType());
+    }
+
+    @Override
+    public int hashCode() {
+        return componentType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ResolvedParameterizedType.typeName(componentType) + "[]";
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.annotation.Immutable;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 替换类型变量后的泛型类型
+ *
+ * 1. equals/hashCode 和 jdk 的实现保持一致，可以互相比较
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+final class ResolvedParameterizedType implements ParameterizedType {
+
+    private final Type ownerType;
+
+    private final Class rawType;
+
+    private final Type[] actualTypeArguments;
+
+    ResolvedParameterizedType(Type ownerType, Class rawType, Type[] actualTypeArguments) {
+        this.ownerType = ownerType;
+        this.rawType = rawType;
+        this.actualTypeArguments = actualTypeArguments;
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+        return actualTypeArguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+        return rawType;
+    }
+
+    @Override
+    public Type getOwnerType() {
+        return ownerType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType that = (ParameterizedType) o;
+        return rawType.equals(that.getRawType())
+                && Objects.equals(ownerType, that.getOwnerType())
+                && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(actualTypeArguments)
+                ^ Objects.hashCode(ownerType)
+                ^ rawType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(rawType.getName());
+        stringBuilder.append('<');
+        for (int i = 0; i < actualTypeArguments.length; i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(typeName(actualTypeArguments[i]));
+        }
+        return stringBuilder.append('>').toString();
+    }
+
+    /**
+     * 类型名称
+     * @param type 类型
+     * @return 名称
+     */
+    static String typeName(final Type type) {
+        if (type instanceof Class) {
+            return ((Class) type).getName();
+        }
+        return type.toString();
+    }
+
+}
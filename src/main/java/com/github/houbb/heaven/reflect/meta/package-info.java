@@ -0,0 +1,9 @@
+/**
+ * 类的元数据
+ *
+ * 1. 每个类只解析一次，解析结果不可变，可以在多个线程之间共享。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.reflect.meta;
@@ -3,8 +3,15 @@ package com.github.houbb.heaven.reflect.simple;
 import com.github.houbb.heaven.reflect.api.IClass;
 import com.github.houbb.heaven.reflect.api.IField;
 import com.github.houbb.heaven.reflect.api.IMethod;
+import com.github.houbb.heaven.reflect.util.Classes;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.util.CollectionUtil;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author binbin.hou
@@ -12,33 +19,201 @@ import java.util.List;
  */
 public class SimpleClass implements IClass {
 
+    /**
+     * 简称
+     * @since 0.1.13
+     */
+    private String name;
+
+    /**
+     * 全称
+     * @since 0.1.13
+     */
+    private String fullName;
+
+    /**
+     * 类型
+     * @since 0.1.13
+     */
+    private Class type;
+
+    /**
+     * 访问权限
+     * @since 0.1.13
+     */
+    private int access;
+
+    /**
+     * 方法列表
+     * @since 0.1.13
+     */
+    private List<IMethod> methods;
+
+    /**
+     * 原始方法和方法信息的映射
+     * @since 0.1.13
+     */
+    private Map<Method, IMethod> methodMap;
+
+    /**
+     * 方法名称和同名方法列表的映射
+     * @since 0.1.13
+     */
+    private Map<String, List<IMethod>> methodNameMap;
+
+    /**
+     * 注解列表
+     * @since 0.1.13
+     */
+    private List<Annotation> annotations;
+
+    /**
+     * 字段列表
+     *
+     * 1. {@link IField} 需要存放字段值，所以每次返回新的列表，字段元数据部分共享
+     *
+     * @return 字段列表
+     */
     @Override
     public List<IField> fields() {
-        return null;
+        return Classes.getFields(type);
     }
 
     @Override
     public List<IMethod> methods() {
+        return methods;
+    }
+
+    /**
+     * 设置方法列表
+     * 1. 同时清空方法名称索引，避免和新的列表不一致
+     * @param methods 方法列表
+     * @return this
+     */
+    public SimpleClass methods(List<IMethod> methods) {
+        this.methods = methods;
+        this.methodNameMap = null;
+        return this;
+    }
+
+    /**
+     * 根据名称和参数类型获取方法
+     *
+     * 1. 设置了 {@link #methodNameMap(Map)} 时只比较同名的方法，否则遍历全部方法
+     *
+     * @param name 名称
+     * @param paramTypes 参数类型
+     * @return 方法，不存在时返回 null
+     */
+    @Override
+    public IMethod method(String name, Class... paramTypes) {
+        ArgUtil.notNull(name, "name");
+
+        final List<IMethod> candidates = methodNameMap == null ? methods : methodNameMap.get(name);
+        if(CollectionUtil.isEmpty(candidates)) {
+            return null;
+        }
+        for(IMethod method : candidates) {
+            if(name.equals(method.name())
+                && Arrays.equals(paramTypes, method.method().getParameterTypes())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据原始方法获取方法信息
+     * @param method 原始方法
+     * @return 方法信息，不存在时返回 null
+     * @since 0.1.13
+     */
+    public IMethod method(final Method method) {
+        if(methodMap == null) {
+            return null;
+        }
+        return methodMap.get(method);
+    }
+
+    public SimpleClass methodMap(Map<Method, IMethod> methodMap) {
+        this.methodMap = methodMap;
+        return this;
+    }
+
+    /**
+     * 设置方法名称索引
+     * 1. 需要在 {@link #methods(List)} 之后设置，并且和方法列表一致
+     * @param methodNameMap 方法名称和同名方法列表的映射
+     * @return this
+     * @since 0.1.13
+     */
+    public SimpleClass methodNameMap(Map<String, List<IMethod>> methodNameMap) {
+        this.methodNameMap = methodNameMap;
+        return this;
+    }
+
+    @Override
+    public List<Annotation> annotations() {
+        return annotations;
+    }
+
+    public SimpleClass annotations(List<Annotation> annotations) {
+        this.annotations = annotations;
+        return this;
+    }
+
+    @Override
+    public Annotation annotation(Class type) {
+        ArgUtil.notNull(type, "type");
+
+        if(CollectionUtil.isEmpty(this.annotations)) {
+            return null;
+        }
+        for(Annotation annotation : annotations) {
+            if(type.equals(annotation.annotationType())) {
+                return annotation;
+            }
+        }
         return null;
     }
 
     @Override
     public String name() {
-        return null;
+        return name;
+    }
+
+    public SimpleClass name(String name) {
+        this.name = name;
+        return this;
     }
 
     @Override
     public String fullName() {
-        return null;
+        return fullName;
+    }
+
+    public SimpleClass fullName(String fullName) {
+        this.fullName = fullName;
+        return this;
     }
 
     @Override
     public Class type() {
-        return null;
+        return type;
+    }
+
+    public SimpleClass type(Class type) {
+        this.type = type;
+        return this;
     }
 
     @Override
     public int access() {
-        return 0;
+        return access;
+    }
+
+    public SimpleClass access(int access) {
+        this.access = access;
+        return this;
     }
 }
@@ -8,6 +8,7 @@ import com.github.houbb.heaven.util.util.Optional;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author binbin.hou
@@ -22,6 +23,13 @@ public class SimpleField implements IField {
 
     private List<Annotation> annotations;
 
+    /**
+     * 注解类型和注解的映射
+     * 1. 存在时直接查找，否则遍历 {@link #annotations}
+     * @since 0.1.13
+     */
+    private Map<Class<? extends Annotation>, Annotation> annotationMap;
+
     private String name;
 
     private String fullName;
@@ -44,6 +52,9 @@ public class SimpleField implements IField {
     public Optional<Annotation> annotationOpt(Class type) {
         ArgUtil.notNull(type, "type");
 
+        if(this.annotationMap != null) {
+            return Optional.ofNullable(this.annotationMap.get(type));
+        }
         if(CollectionUtil.isEmpty(this.annotations)) {
             return Optional.empty();
         }
@@ -59,12 +70,28 @@ public class SimpleField implements IField {
     public Annotation annotation(Class type) {
         ArgUtil.notNull(type, "type");
 
+        if(this.annotationMap != null) {
+            return this.annotationMap.get(type);
+        }
         Optional<Annotation> annotationOptional = this.annotationOpt(type);
         return annotationOptional.orElseNull();
     }
 
     public SimpleField annotations(List<Annotation> annotations) {
         this.annotations = annotations;
+        this.annotationMap = null;
+        return this;
+    }
+
+    /**
+     * 设置注解映射
+     * 1. 需要和 {@link #annotations(List)} 保持一致，所以在其之后设置
+     * @param annotationMap 注解映射
+     * @return this
+     * @since 0.1.13
+     */
+    public SimpleField annotationMap(Map<Class<? extends Annotation>, Annotation> annotationMap) {
+        this.annotationMap = annotationMap;
         return this;
     }
 
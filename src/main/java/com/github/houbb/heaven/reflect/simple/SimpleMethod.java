@@ -2,9 +2,18 @@ package com.github.houbb.heaven.reflect.simple;
 
 
 import com.github.houbb.heaven.reflect.api.IMethod;
+import com.github.houbb.heaven.reflect.api.IMethodInvoker;
+import com.github.houbb.heaven.reflect.api.IParam;
+import com.github.houbb.heaven.reflect.api.IReturn;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.util.CollectionUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
 
 /**
- * 注解实现
+ * 方法实现
  * @author binbin.hou
  * @since 0.1.5
  */
@@ -18,6 +27,36 @@ public class SimpleMethod implements IMethod {
 
     private int access;
 
+    /**
+     * 原始方法信息
+     * @since 0.1.13
+     */
+    private Method method;
+
+    /**
+     * 参数列表
+     * @since 0.1.13
+     */
+    private List<IParam> params;
+
+    /**
+     * 返回值信息
+     * @since 0.1.13
+     */
+    private IReturn returns;
+
+    /**
+     * 注解列表
+     * @since 0.1.13
+     */
+    private List<Annotation> annotations;
+
+    /**
+     * 方法调用器
+     * @since 0.1.13
+     */
+    private IMethodInvoker invoker;
+
     @Override
     public String name() {
         return name;
@@ -57,4 +96,75 @@ public class SimpleMethod implements IMethod {
         this.access = access;
         return this;
     }
+
+    @Override
+    public Method method() {
+        return method;
+    }
+
+    public SimpleMethod method(Method method) {
+        this.method = method;
+        return this;
+    }
+
+    @Override
+    public List<IParam> params() {
+        return params;
+    }
+
+    public SimpleMethod params(List<IParam> params) {
+        this.params = params;
+        return this;
+    }
+
+    @Override
+    public IReturn returns() {
+        return returns;
+    }
+
+    public SimpleMethod returns(IReturn returns) {
+        this.returns = returns;
+        return this;
+    }
+
+    @Override
+    public List<Annotation> annotations() {
+        return annotations;
+    }
+
+    public SimpleMethod annotations(List<Annotation> annotations) {
+        this.annotations = annotations;
+        return this;
+    }
+
+    @Override
+    public Annotation annotation(Class type) {
+        ArgUtil.notNull(type, "type");
+
+        if(CollectionUtil.isEmpty(this.annotations)) {
+            return null;
+        }
+        for(Annotation annotation : annotations) {
+            if(type.equals(annotation.annotationType())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public IMethodInvoker invoker() {
+        return invoker;
+    }
+
+    public SimpleMethod invoker(IMethodInvoker invoker) {
+        this.invoker = invoker;
+        return this;
+    }
+
+    @Override
+    public Object invoke(Object target, Object... args) {
+        return invoker.invoke(target, args);
+    }
+
 }
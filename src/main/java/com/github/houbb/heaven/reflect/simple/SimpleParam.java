@@ -2,6 +2,12 @@ package com.github.houbb.heaven.reflect.simple;
 
 
 import com.github.houbb.heaven.reflect.api.IParam;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.util.CollectionUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
 
 /**
  * 参数实现
@@ -18,6 +24,24 @@ public class SimpleParam implements IParam {
 
     private int access;
 
+    /**
+     * 参数下标
+     * @since 0.1.13
+     */
+    private int index;
+
+    /**
+     * 泛型类型
+     * @since 0.1.13
+     */
+    private Type genericType;
+
+    /**
+     * 注解列表
+     * @since 0.1.13
+     */
+    private List<Annotation> annotations;
+
     @Override
     public String name() {
         return name;
@@ -57,4 +81,50 @@ public class SimpleParam implements IParam {
         this.access = access;
         return this;
     }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    public SimpleParam index(int index) {
+        this.index = index;
+        return this;
+    }
+
+    @Override
+    public Type genericType() {
+        return genericType;
+    }
+
+    public SimpleParam genericType(Type genericType) {
+        this.genericType = genericType;
+        return this;
+    }
+
+    @Override
+    public List<Annotation> annotations() {
+        return annotations;
+    }
+
+    public SimpleParam annotations(List<Annotation> annotations) {
+        this.annotations = annotations;
+        return this;
+    }
+
+    @Override
+    public Annotation annotation(Class type) {
+        ArgUtil.notNull(type, "type");
+
+        if(CollectionUtil.isEmpty(this.annotations)) {
+            return null;
+        }
+        for(Annotation annotation : annotations) {
+            if(type.equals(annotation.annotationType())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
 }
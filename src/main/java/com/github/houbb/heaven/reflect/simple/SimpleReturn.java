@@ -3,6 +3,8 @@ package com.github.houbb.heaven.reflect.simple;
 
 import com.github.houbb.heaven.reflect.api.IReturn;
 
+import java.lang.reflect.Type;
+
 /**
  * 注解实现
  * @author binbin.hou
@@ -18,6 +20,12 @@ public class SimpleReturn implements IReturn {
 
     private int access;
 
+    /**
+     * 泛型类型
+     * @since 0.1.13
+     */
+    private Type genericType;
+
     @Override
     public String name() {
         return name;
@@ -57,4 +65,15 @@ public class SimpleReturn implements IReturn {
         this.access = access;
         return this;
     }
+
+    @Override
+    public Type genericType() {
+        return genericType;
+    }
+
+    public SimpleReturn genericType(Type genericType) {
+        this.genericType = genericType;
+        return this;
+    }
+
 }
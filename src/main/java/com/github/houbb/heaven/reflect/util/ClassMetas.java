@@ -0,0 +1,58 @@
+package com.github.houbb.heaven.reflect.util;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.meta.ClassMeta;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 类元数据注册中心
+ *
+ * 1. 基于 {@link ClassValue}，元数据跟随类本身存放，不会阻止类加载器被回收。
+ * 2. 每个类只解析一次，之后的获取只是一次查找。
+ * 3. 获取是所有访问器、拷贝、比较的热点路径，不做任何共享写入，只统计解析次数。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public final class ClassMetas {
+
+    private ClassMetas(){}
+
+    /**
+     * 解析的次数
+     */
+    private static final AtomicLong MISS_COUNT = new AtomicLong(0L);
+
+    /**
+     * 元数据
+     */
+    private static final ClassValue<ClassMeta> META = new ClassValue<ClassMeta>() {
+        @Override
+        protected ClassMeta computeValue(Class<?> type) {
+            MISS_COUNT.incrementAndGet();
+            return new ClassMeta(type);
+        }
+    };
+
+    /**
+     * 获取类元数据
+     * @param clazz 类
+     * @return 元数据
+     */
+    public static ClassMeta get(final Class clazz) {
+        ArgUtil.notNull(clazz, "clazz");
+        return META.get(clazz);
+    }
+
+    /**
+     * 未命中缓存，重新解析的次数
+     * @return 次数
+     */
+    public static long missCount() {
+        return MISS_COUNT.get();
+    }
+
+}
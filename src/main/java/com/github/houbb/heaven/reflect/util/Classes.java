@@ -2,11 +2,11 @@ package com.github.houbb.heaven.reflect.util;
 
 import com.github.houbb.heaven.annotation.CommonEager;
 import com.github.houbb.heaven.reflect.api.IField;
-import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
-import com.github.houbb.heaven.reflect.handler.SimpleFieldHandler;
+import com.github.houbb.heaven.reflect.meta.ClassMeta;
+import com.github.houbb.heaven.reflect.meta.FieldMeta;
+import com.github.houbb.heaven.reflect.simple.SimpleField;
 import com.github.houbb.heaven.util.common.ArgUtil;
 import com.github.houbb.heaven.util.guava.Guavas;
-import com.github.houbb.heaven.util.lang.reflect.ClassUtil;
 import com.github.houbb.heaven.util.util.CollectionUtil;
 
 import java.lang.reflect.Field;
@@ -26,18 +26,28 @@ public final class Classes {
 
     /**
      * 获取所有的字段信息
+     *
+     * 1. 字段元数据从 {@link ClassMetas} 中获取，每个类只解析一次。
+     * 2. {@link IField} 需要存放字段值，所以每次返回新的对象，元数据部分共享。
+     *
      * @param clazz 类
      * @return iField 信息列表
      */
     public static List<IField> getFields(final Class clazz) {
         ArgUtil.notNull(clazz, "clazz");
 
-        List<Field> fieldList = ClassUtil.getAllFieldList(clazz);
-        List<IField> resultList = Guavas.newArrayList(fieldList.size());
+        List<FieldMeta> fieldMetaList = ClassMetas.get(clazz).fields();
+        List<IField> resultList = Guavas.newArrayList(fieldMetaList.size());
 
-        final SimpleFieldHandler handler = new SimpleFieldHandler();
-        for(Field field : fieldList) {
-            IField result = handler.handle(field);
+        for(FieldMeta fieldMeta : fieldMetaList) {
+            SimpleField result = new SimpleField();
+            result.field(fieldMeta.field())
+                    .name(fieldMeta.name())
+                    .fullName(fieldMeta.name())
+                    .type(fieldMeta.type())
+                    .annotations(fieldMeta.annotations())
+                    .annotationMap(fieldMeta.annotationMap())
+                    .access(fieldMeta.access());
             resultList.add(result);
         }
         return resultList;
@@ -45,19 +55,26 @@ public final class Classes {
 
     /**
      * 初始化字段值
+     *
+     * 1. 通过 {@link FieldMeta#accessor()} 读取，不再每次进行访问权限检查。
+     *
      * @param target 目标对象
      * @param fieldList 字段列表
      */
     public static void initFieldValue(final Object target,
                                 final List<IField> fieldList) {
         if(CollectionUtil.isNotEmpty(fieldList)) {
-            try {
-                for(IField field : fieldList) {
-                    final Object value = field.field().get(target);
-                    field.value(value);
+            final ClassMeta classMeta = ClassMetas.get(target.getClass());
+            for(IField field : fieldList) {
+                final Field rawField = field.field();
+                FieldMeta fieldMeta = classMeta.field(rawField.getName());
+                // 同名字段被子类覆盖时，按照声明的类查找
+                if(fieldMeta == null
+                    || !fieldMeta.field().equals(rawField)) {
+                    fieldMeta = ClassMetas.get(rawField.getDeclaringClass()).field(rawField.getName());
                 }
-            } catch (IllegalAccessException e) {
-                throw new ReflectRumtionException(e);
+                final Object value = fieldMeta.accessor().get(target);
+                field.value(value);
             }
         }
     }
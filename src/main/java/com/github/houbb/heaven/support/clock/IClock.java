@@ -0,0 +1,17 @@
+package com.github.houbb.heaven.support.clock;
+
+/**
+ * 时钟接口
+ * 1. 便于替换 {@link System#currentTimeMillis()} 的实现，比如缓存时钟、测试时钟。
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IClock {
+
+    /**
+     * 当前时间的毫秒数
+     * @return 毫秒数
+     */
+    long currentTimeMillis();
+
+}
@@ -0,0 +1,109 @@
+package com.github.houbb.heaven.support.clock.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.clock.IClock;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存时钟
+ *
+ * 由后台守护线程按照固定周期刷新时间，读取时只是一次 volatile 读，避免每次调用都进行系统调用。
+ *
+ * 注意：返回的时间最多落后一个刷新周期，不适用于需要精确时间的场景。
+ * 共享的单例不能停止，需要控制生命周期时请自行创建实例。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class CachedClock implements IClock {
+
+    /**
+     * 当前时间
+     */
+    private volatile long now;
+
+    /**
+     * 刷新线程
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 是否为共享的单例
+     */
+    private final boolean shared;
+
+    /**
+     * 静态内部类实现单例
+     */
+    private static class SingletonHolder {
+        private static final CachedClock INSTANCE = new CachedClock(1, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * 获取每毫秒刷新一次的单例时钟
+     * @return 时钟
+     */
+    public static CachedClock getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    /**
+     * @param period 刷新周期
+     * @param timeUnit 单位
+     */
+    public CachedClock(final long period, final TimeUnit timeUnit) {
+        this(period, timeUnit, false);
+    }
+
+    /**
+     * @param period 刷新周期
+     * @param timeUnit 单位
+     * @param shared 是否为共享的单例
+     */
+    private CachedClock(final long period, final TimeUnit timeUnit, final boolean shared) {
+        ArgUtil.positive(period, "period");
+        ArgUtil.notNull(timeUnit, "timeUnit");
+
+        this.shared = shared;
+        this.now = System.currentTimeMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "heaven-cached-clock");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                now = System.currentTimeMillis();
+            }
+        }, period, period, timeUnit);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * 停止后台刷新
+     * 1. 停止后时间不再变化
+     * 2. 共享的单例被所有使用者依赖，不允许停止
+     */
+    public void shutdown() {
+        if (shared) {
+            throw new CommonRuntimeException("The shared CachedClock can't be shut down");
+        }
+        scheduler.shutdownNow();
+    }
+
+}
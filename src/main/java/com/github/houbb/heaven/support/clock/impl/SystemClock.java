@@ -0,0 +1,20 @@
+package com.github.houbb.heaven.support.clock.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.support.clock.IClock;
+
+/**
+ * 系统时钟
+ * 1. 每次直接调用 {@link System#currentTimeMillis()}
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class SystemClock implements IClock {
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
@@ -0,0 +1,6 @@
+/**
+ * 时钟
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.support.clock;
@@ -0,0 +1,41 @@
+package com.github.houbb.heaven.support.copier;
+
+import java.util.Map;
+
+/**
+ * 对象属性拷贝接口
+ *
+ * 1. 按照字段名称匹配，忽略静态字段，目标字段为 final 或者类型不匹配时忽略。
+ * 2. 基础类型和对应的包装类型之间可以互相拷贝，包装类型的值为 null 时忽略。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IBeanCopier {
+
+    /**
+     * 对象拷贝到对象
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    void copy(final Object source, final Object target);
+
+    /**
+     * 对象拷贝到 map
+     * @param source 源对象
+     * @param target 目标 map
+     */
+    void toMap(final Object source, final Map<String, Object> target);
+
+    /**
+     * map 拷贝到对象
+     *
+     * 1. 只处理 map 中存在的 key
+     * 2. 值的类型和字段类型不匹配时忽略
+     *
+     * @param source 源 map
+     * @param target 目标对象
+     */
+    void fromMap(final Map<String, ?> source, final Object target);
+
+}
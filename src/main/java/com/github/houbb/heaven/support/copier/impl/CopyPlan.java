@@ -0,0 +1,293 @@
+package com.github.houbb.heaven.support.copier.impl;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.reflect.api.IFieldAccessor;
+import com.github.houbb.heaven.reflect.meta.ClassMeta;
+import com.github.houbb.heaven.reflect.meta.FieldMeta;
+import com.github.houbb.heaven.reflect.util.ClassMetas;
+import com.github.houbb.heaven.util.lang.reflect.PrimitiveUtil;
+import com.github.houbb.heaven.util.lang.reflect.ReflectFieldUtil;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 拷贝计划
+ *
+ * 1. 创建时完成字段匹配和类型判断，结果为一组字段访问器。
+ * 2. 两端都是相同的基础类型时，直接通过 getXxx/setXxx 拷贝，不装箱。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class CopyPlan {
+
+    private static final int KIND_OBJECT = 0;
+    private static final int KIND_BOOLEAN = 1;
+    private static final int KIND_BYTE = 2;
+    private static final int KIND_CHAR = 3;
+    private static final int KIND_SHORT = 4;
+    private static final int KIND_INT = 5;
+    private static final int KIND_LONG = 6;
+    private static final int KIND_FLOAT = 7;
+    private static final int KIND_DOUBLE = 8;
+
+    /**
+     * 拷贝项
+     */
+    private final Entry[] entries;
+
+    private CopyPlan(final List<Entry> entryList) {
+        this.entries = entryList.toArray(new Entry[entryList.size()]);
+    }
+
+    /**
+     * 对象到对象的拷贝计划
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return 计划
+     */
+    public static CopyPlan beanToBean(final Class sourceClass, final Class targetClass) {
+        final ClassMeta sourceMeta = ClassMetas.get(sourceClass);
+        List<Entry> entryList = new ArrayList<>();
+        for (FieldMeta targetField : writableFields(targetClass)) {
+            final FieldMeta sourceField = sourceMeta.field(targetField.name());
+            if (sourceField == null
+                    || Modifier.isStatic(sourceField.access())
+                    || !ReflectFieldUtil.isAssignable(sourceField.field(), targetField.field())) {
+                continue;
+            }
+
+            int kind = KIND_OBJECT;
+            if (sourceField.type() == targetField.type()) {
+                kind = kindOf(targetField.type());
+            }
+            entryList.add(new Entry(targetField.name(), sourceField.accessor(),
+                    targetField.accessor(), targetField.type(), kind));
+        }
+        return new CopyPlan(entryList);
+    }
+
+    /**
+     * 对象到 map 的拷贝计划
+     * @param sourceClass 源类型
+     * @return 计划
+     */
+    public static CopyPlan beanToMap(final Class sourceClass) {
+        final ClassMeta sourceMeta = ClassMetas.get(sourceClass);
+        List<Entry> entryList = new ArrayList<>();
+        for (FieldMeta sourceField : sourceMeta.fields()) {
+            if (Modifier.isStatic(sourceField.access())
+                    || sourceMeta.field(sourceField.name()) != sourceField) {
+                continue;
+            }
+            entryList.add(new Entry(sourceField.name(), sourceField.accessor(),
+                    null, sourceField.type(), KIND_OBJECT));
+        }
+        return new CopyPlan(entryList);
+    }
+
+    /**
+     * map 到对象的拷贝计划
+     * @param targetClass 目标类型
+     * @return 计划
+     */
+    public static CopyPlan mapToBean(final Class targetClass) {
+        List<Entry> entryList = new ArrayList<>();
+        for (FieldMeta targetField : writableFields(targetClass)) {
+            entryList.add(new Entry(targetField.name(), null,
+                    targetField.accessor(), targetField.type(), KIND_OBJECT));
+        }
+        return new CopyPlan(entryList);
+    }
+
+    /**
+     * 可以写入的字段
+     *
+     * 1. 忽略静态字段和 final 字段
+     * 2. 同名字段只保留子类的字段
+     *
+     * @param targetClass 目标类型
+     * @return 结果
+     */
+    private static List<FieldMeta> writableFields(final Class targetClass) {
+        final ClassMeta targetMeta = ClassMetas.get(targetClass);
+        List<FieldMeta> resultList = new ArrayList<>();
+        for (FieldMeta fieldMeta : targetMeta.fields()) {
+            final int access = fieldMeta.access();
+            if (Modifier.isStatic(access)
+                    || Modifier.isFinal(access)
+                    || targetMeta.field(fieldMeta.name()) != fieldMeta) {
+                continue;
+            }
+            resultList.add(fieldMeta);
+        }
+        return resultList;
+    }
+
+    /**
+     * 类型对应的拷贝方式
+     * @param type 类型
+     * @return 拷贝方式
+     */
+    private static int kindOf(final Class type) {
+        if (boolean.class == type) {
+            return KIND_BOOLEAN;
+        }
+        if (byte.class == type) {
+            return KIND_BYTE;
+        }
+        if (char.class == type) {
+            return KIND_CHAR;
+        }
+        if (short.class == type) {
+            return KIND_SHORT;
+        }
+        if (int.class == type) {
+            return KIND_INT;
+        }
+        if (long.class == type) {
+            return KIND_LONG;
+        }
+        if (float.class == type) {
+            return KIND_FLOAT;
+        }
+        if (double.class == type) {
+            return KIND_DOUBLE;
+        }
+        return KIND_OBJECT;
+    }
+
+    /**
+     * 对象到对象的拷贝
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    public void copy(final Object source, final Object target) {
+        for (Entry entry : entries) {
+            final IFieldAccessor from = entry.source;
+            final IFieldAccessor to = entry.target;
+            switch (entry.kind) {
+                case KIND_BOOLEAN:
+                    to.setBoolean(target, from.getBoolean(source));
+                    break;
+                case KIND_BYTE:
+                    to.setByte(target, from.getByte(source));
+                    break;
+                case KIND_CHAR:
+                    to.setChar(target, from.getChar(source));
+                    break;
+                case KIND_SHORT:
+                    to.setShort(target, from.getShort(source));
+                    break;
+                case KIND_INT:
+                    to.setInt(target, from.getInt(source));
+                    break;
+                case KIND_LONG:
+                    to.setLong(target, from.getLong(source));
+                    break;
+                case KIND_FLOAT:
+                    to.setFloat(target, from.getFloat(source));
+                    break;
+                case KIND_DOUBLE:
+                    to.setDouble(target, from.getDouble(source));
+                    break;
+                default:
+                    final Object value = from.get(source);
+                    if (value != null || !entry.primitive) {
+                        to.set(target, value);
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 对象到 map 的拷贝
+     * @param source 源对象
+     * @param target 目标 map
+     */
+    public void toMap(final Object source, final Map<String, Object> target) {
+        for (Entry entry : entries) {
+            target.put(entry.name, entry.source.get(source));
+        }
+    }
+
+    /**
+     * map 到对象的拷贝
+     * @param source 源 map
+     * @param target 目标对象
+     */
+    public void fromMap(final Map<String, ?> source, final Object target) {
+        for (Entry entry : entries) {
+            final Object value = source.get(entry.name);
+            if (value == null) {
+                if (entry.primitive
+                        || !source.containsKey(entry.name)) {
+                    continue;
+                }
+            } else if (!entry.valueType.isInstance(value)) {
+                continue;
+            }
+            entry.target.set(target, value);
+        }
+    }
+
+    /**
+     * 拷贝的字段数量
+     * @return 数量
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * 拷贝项
+     */
+    private static final class Entry {
+
+        /**
+         * 字段名称
+         */
+        private final String name;
+
+        /**
+         * 源字段访问器
+         */
+        private final IFieldAccessor source;
+
+        /**
+         * 目标字段访问器
+         */
+        private final IFieldAccessor target;
+
+        /**
+         * 目标值类型，基础类型为对应的包装类型
+         */
+        private final Class valueType;
+
+        /**
+         * 目标是否为基础类型
+         */
+        private final boolean primitive;
+
+        /**
+         * 拷贝方式
+         */
+        private final int kind;
+
+        private Entry(String name, IFieldAccessor source, IFieldAccessor target, Class type, int kind) {
+            this.name = name;
+            this.source = source;
+            this.target = target;
+            this.valueType = PrimitiveUtil.getReferenceType(type);
+            this.primitive = type.isPrimitive();
+            this.kind = kind;
+        }
+
+    }
+
+}
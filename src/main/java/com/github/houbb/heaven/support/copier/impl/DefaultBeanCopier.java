@@ -0,0 +1,99 @@
+package com.github.houbb.heaven.support.copier.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.support.copier.IBeanCopier;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.Map;
+
+/**
+ * 默认的对象属性拷贝实现
+ *
+ * 1. 拷贝计划基于 {@link ClassValue} 缓存，对象到对象的计划先按源类型、再按目标类型查找，不创建任何 key 对象。
+ * 2. 缓存跟随类本身存放。对象到 map、map 到对象的计划只引用自身的类，不会阻止类加载器被回收。
+ * 3. 对象到对象的计划存放在目标类上，并且引用源类。源类和目标类来自不同的类加载器时，
+ * 目标类存活期间源类的类加载器不会被回收，比如目标类由应用加载、源类由插件加载时，插件无法卸载。
+ * 这种场景下应该使用插件自身加载的目标类，或者不使用缓存直接拷贝。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class DefaultBeanCopier implements IBeanCopier {
+
+    /**
+     * 对象到对象的拷贝计划
+     * 1. 内层的计划存放在目标类上，计划引用源类，所以目标类会使源类保持可达
+     */
+    private static final ClassValue<ClassValue<CopyPlan>> BEAN_TO_BEAN = new ClassValue<ClassValue<CopyPlan>>() {
+        @Override
+        protected ClassValue<CopyPlan> computeValue(final Class<?> sourceClass) {
+            return new ClassValue<CopyPlan>() {
+                @Override
+                protected CopyPlan computeValue(Class<?> targetClass) {
+                    return CopyPlan.beanToBean(sourceClass, targetClass);
+                }
+            };
+        }
+    };
+
+    /**
+     * 对象到 map 的拷贝计划
+     */
+    private static final ClassValue<CopyPlan> BEAN_TO_MAP = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> sourceClass) {
+            return CopyPlan.beanToMap(sourceClass);
+        }
+    };
+
+    /**
+     * map 到对象的拷贝计划
+     */
+    private static final ClassValue<CopyPlan> MAP_TO_BEAN = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> targetClass) {
+            return CopyPlan.mapToBean(targetClass);
+        }
+    };
+
+    /**
+     * 静态内部类实现单例
+     */
+    private static class SingletonHolder {
+        private static final DefaultBeanCopier INSTANCE = new DefaultBeanCopier();
+    }
+
+    /**
+     * 获取单例
+     * @return 单例
+     */
+    public static DefaultBeanCopier getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    @Override
+    public void copy(Object source, Object target) {
+        ArgUtil.notNull(source, "source");
+        ArgUtil.notNull(target, "target");
+
+        BEAN_TO_BEAN.get(source.getClass()).get(target.getClass()).copy(source, target);
+    }
+
+    @Override
+    public void toMap(Object source, Map<String, Object> target) {
+        ArgUtil.notNull(source, "source");
+        ArgUtil.notNull(target, "target");
+
+        BEAN_TO_MAP.get(source.getClass()).toMap(source, target);
+    }
+
+    @Override
+    public void fromMap(Map<String, ?> source, Object target) {
+        ArgUtil.notNull(source, "source");
+        ArgUtil.notNull(target, "target");
+
+        MAP_TO_BEAN.get(target.getClass()).fromMap(source, target);
+    }
+
+}
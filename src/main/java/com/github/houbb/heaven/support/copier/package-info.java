@@ -0,0 +1,9 @@
+/**
+ * 对象属性拷贝
+ *
+ * 1. 每一对（源类型，目标类型）只解析一次拷贝计划，之后的拷贝不再进行反射查找。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.support.copier;
@@ -0,0 +1,26 @@
+package com.github.houbb.heaven.support.diff;
+
+/**
+ * 差异监听器
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IDiffListener {
+
+    /**
+     * 发现差异
+     *
+     * 路径格式：
+     * 1. 字段：{@code user.name}
+     * 2. 列表和数组的下标：{@code items[0].price}
+     * 3. map 的 key：{@code attrs[color]}
+     * 4. 最外层对象本身不同时为空字符串
+     *
+     * @param path 路径
+     * @param before 修改前的值，不存在时为 null
+     * @param after 修改后的值，不存在时为 null
+     */
+    void onDiff(final String path, final Object before, final Object after);
+
+}
@@ -0,0 +1,24 @@
+package com.github.houbb.heaven.support.diff;
+
+/**
+ * 对象差异比较接口
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IObjectDiffer {
+
+    /**
+     * 比较两个对象，每个差异回调一次
+     *
+     * 1. 普通对象逐个字段比较，列表和数组逐个下标比较，map 逐个 key 比较，嵌套时递归。
+     * 2. 重写了 equals 的对象、Set、基本类型数组等作为整体比较。
+     * 3. 类型不同时作为整体输出。
+     *
+     * @param before 修改前
+     * @param after 修改后
+     * @param listener 监听器
+     */
+    void diff(final Object before, final Object after, final IDiffListener listener);
+
+}
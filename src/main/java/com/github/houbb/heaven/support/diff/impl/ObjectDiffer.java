@@ -0,0 +1,325 @@
+package com.github.houbb.heaven.support.diff.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.constant.enums.EqualsKindEnum;
+import com.github.houbb.heaven.support.diff.IDiffListener;
+import com.github.houbb.heaven.support.diff.IObjectDiffer;
+import com.github.houbb.heaven.support.equals.impl.DeepEquals;
+import com.github.houbb.heaven.support.equals.impl.EqualsStrategy;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 默认的对象差异比较实现
+ *
+ * （1）按类缓存：字段列表和比较方式直接使用 {@link EqualsStrategy}，每个类只解析一次。
+ *
+ * （2）低分配：路径通过线程内复用的 {@link StringBuilder} 追加和回退，只有发现差异时才生成字符串；
+ * 基本类型字段只有不同时才装箱。
+ *
+ * （3）循环引用：同一对对象在当前路径上再次出现时不再递归。被多处引用的对象会在每个路径下分别比较。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class ObjectDiffer implements IObjectDiffer {
+
+    /**
+     * 线程内复用的上下文
+     */
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<Context>() {
+        @Override
+        protected Context initialValue() {
+            return new Context();
+        }
+    };
+
+    /**
+     * 静态内部类实现单例
+     */
+    private static class SingletonHolder {
+        private static final ObjectDiffer INSTANCE = new ObjectDiffer();
+    }
+
+    /**
+     * 获取单例
+     * @return 单例
+     */
+    public static ObjectDiffer getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    @Override
+    public void diff(Object before, Object after, IDiffListener listener) {
+        ArgUtil.notNull(listener, "listener");
+
+        Context context = CONTEXT.get();
+        if (context.listener != null) {
+            // 监听器中再次调用时，使用新的上下文
+            context = new Context();
+        }
+        context.listener = listener;
+        try {
+            diff(before, after, context);
+        } finally {
+            context.clear();
+        }
+    }
+
+    /**
+     * 比较两个值
+     * @param before 修改前
+     * @param after 修改后
+     * @param context 上下文
+     */
+    private void diff(final Object before, final Object after, final Context context) {
+        if (before == after) {
+            return;
+        }
+        if (before == null || after == null) {
+            context.emit(before, after);
+            return;
+        }
+
+        // 列表、map、数组只要求两边的策略类型相同，例如 ArrayList 和 LinkedList 仍然逐个元素比较
+        final EqualsStrategy strategy = EqualsStrategy.of(before.getClass());
+        final EqualsKindEnum kind = strategy.kind();
+        if (kind != EqualsStrategy.of(after.getClass()).kind()
+                || (kind == EqualsKindEnum.BEAN && before.getClass() != after.getClass())) {
+            context.emit(before, after);
+            return;
+        }
+
+        switch (kind) {
+            case BEAN:
+                if (context.enter(before, after)) {
+                    diffBean(strategy, before, after, context);
+                    context.exit();
+                }
+                return;
+            case LIST:
+                if (context.enter(before, after)) {
+                    diffList((List) before, (List) after, context);
+                    context.exit();
+                }
+                return;
+            case MAP:
+                if (context.enter(before, after)) {
+                    diffMap((Map<?, ?>) before, (Map<?, ?>) after, context);
+                    context.exit();
+                }
+                return;
+            case OBJECT_ARRAY:
+                if (context.enter(before, after)) {
+                    diffArray((Object[]) before, (Object[]) after, context);
+                    context.exit();
+                }
+                return;
+            default:
+                if (!DeepEquals.getInstance().isEquals(before, after)) {
+                    context.emit(before, after);
+                }
+        }
+    }
+
+    /**
+     * 逐个字段比较
+     */
+    private void diffBean(final EqualsStrategy strategy,
+                          final Object before,
+                          final Object after,
+                          final Context context) {
+        final int fieldCount = strategy.fieldCount();
+        for (int i = 0; i < fieldCount; i++) {
+            final int mark = context.appendField(strategy.field(i).name());
+            if (strategy.isPrimitiveField(i)) {
+                if (!strategy.primitiveFieldEquals(i, before, after)) {
+                    context.emit(strategy.field(i).accessor().get(before), strategy.field(i).accessor().get(after));
+                }
+            } else {
+                diff(strategy.field(i).accessor().get(before), strategy.field(i).accessor().get(after), context);
+            }
+            context.reset(mark);
+        }
+    }
+
+    /**
+     * 逐个下标比较
+     * 1. 多出的元素和 null 比较
+     */
+    private void diffList(final List before, final List after, final Context context) {
+        final int beforeSize = before.size();
+        final int afterSize = after.size();
+        final int size = Math.max(beforeSize, afterSize);
+        for (int i = 0; i < size; i++) {
+            final int mark = context.appendIndex(i);
+            diff(i < beforeSize ? before.get(i) : null,
+                    i < afterSize ? after.get(i) : null, context);
+            context.reset(mark);
+        }
+    }
+
+    /**
+     * 逐个下标比较
+     */
+    private void diffArray(final Object[] before, final Object[] after, final Context context) {
+        final int size = Math.max(before.length, after.length);
+        for (int i = 0; i < size; i++) {
+            final int mark = context.appendIndex(i);
+            diff(i < before.length ? before[i] : null,
+                    i < after.length ? after[i] : null, context);
+            context.reset(mark);
+        }
+    }
+
+    /**
+     * 逐个 key 比较
+     * 1. 先按修改前的 key 比较，再输出修改后新增的 key
+     * 2. 删除的 key 即使值为 null 也会输出
+     */
+    private void diffMap(final Map<?, ?> before, final Map<?, ?> after, final Context context) {
+        for (Map.Entry<?, ?> entry : before.entrySet()) {
+            final Object key = entry.getKey();
+            final int mark = context.appendKey(key);
+            if (after.containsKey(key)) {
+                diff(entry.getValue(), after.get(key), context);
+            } else {
+                context.emit(entry.getValue(), null);
+            }
+            context.reset(mark);
+        }
+        for (Map.Entry<?, ?> entry : after.entrySet()) {
+            final Object key = entry.getKey();
+            if (!before.containsKey(key)) {
+                final int mark = context.appendKey(key);
+                context.emit(null, entry.getValue());
+                context.reset(mark);
+            }
+        }
+    }
+
+    /**
+     * 单次比较的上下文
+     */
+    private static final class Context {
+
+        /**
+         * 监听器，为 null 时表示空闲
+         */
+        private IDiffListener listener;
+
+        /**
+         * 当前路径
+         */
+        private final StringBuilder path = new StringBuilder(64);
+
+        /**
+         * 当前路径上正在比较的对象对，依次存放修改前和修改后
+         * 1. 循环引用一定会在当前路径上再次遇到同一对对象
+         * 2. 路径通常很浅，线性查找即可，不需要额外的集合
+         */
+        private Object[] stack = new Object[32];
+
+        /**
+         * 当前深度
+         */
+        private int depth;
+
+        /**
+         * 输出当前路径的差异
+         */
+        private void emit(final Object before, final Object after) {
+            listener.onDiff(path.toString(), before, after);
+        }
+
+        /**
+         * 追加字段
+         * @param name 字段名称
+         * @return 追加前的长度
+         */
+        private int appendField(final String name) {
+            final int mark = path.length();
+            if (mark > 0) {
+                path.append('.');
+            }
+            path.append(name);
+            return mark;
+        }
+
+        /**
+         * 追加下标
+         * @param index 下标
+         * @return 追加前的长度
+         */
+        private int appendIndex(final int index) {
+            final int mark = path.length();
+            path.append('[').append(index).append(']');
+            return mark;
+        }
+
+        /**
+         * 追加 map 的 key
+         * @param key key
+         * @return 追加前的长度
+         */
+        private int appendKey(final Object key) {
+            final int mark = path.length();
+            path.append('[').append(key).append(']');
+            return mark;
+        }
+
+        /**
+         * 回退路径
+         * @param mark 追加前的长度
+         */
+        private void reset(final int mark) {
+            path.setLength(mark);
+        }
+
+        /**
+         * 进入对象对
+         * @return 不在当前路径上时返回 true，需要和 {@link #exit()} 成对调用
+         */
+        private boolean enter(final Object before, final Object after) {
+            final int size = depth * 2;
+            for (int i = 0; i < size; i += 2) {
+                if (stack[i] == before && stack[i + 1] == after) {
+                    return false;
+                }
+            }
+            if (size == stack.length) {
+                stack = Arrays.copyOf(stack, size * 2);
+            }
+            stack[size] = before;
+            stack[size + 1] = after;
+            depth++;
+            return true;
+        }
+
+        /**
+         * 离开对象对
+         */
+        private void exit() {
+            depth--;
+            stack[depth * 2] = null;
+            stack[depth * 2 + 1] = null;
+        }
+
+        /**
+         * 比较结束，释放引用
+         * 1. 异常中断时栈中可能有残留
+         */
+        private void clear() {
+            listener = null;
+            path.setLength(0);
+            Arrays.fill(stack, 0, depth * 2, null);
+            depth = 0;
+        }
+
+    }
+
+}
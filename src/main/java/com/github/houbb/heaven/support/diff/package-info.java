@@ -0,0 +1,10 @@
+/**
+ * 对象差异比较
+ *
+ * 1. 基于按类缓存的字段信息逐层比较，只输出发生变化的字段路径。
+ * 2. 结果通过回调逐个输出，不构建中间的 map。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.support.diff;
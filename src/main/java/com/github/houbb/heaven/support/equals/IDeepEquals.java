@@ -0,0 +1,23 @@
+package com.github.houbb.heaven.support.equals;
+
+/**
+ * 深度比较接口
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IDeepEquals {
+
+    /**
+     * 两个对象是否相同
+     *
+     * 1. 两个都为 null 时相同。
+     * 2. 数组、集合、map 比较其中的元素，没有重写 equals 的普通对象比较其中的字段。
+     *
+     * @param one 第一个对象
+     * @param two 第二个对象
+     * @return 是否相同
+     */
+    boolean isEquals(final Object one, final Object two);
+
+}
@@ -0,0 +1,285 @@
+package com.github.houbb.heaven.support.equals.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.constant.enums.EqualsKindEnum;
+import com.github.houbb.heaven.support.equals.IDeepEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * 默认的深度比较实现
+ *
+ * （1）按类缓存：每个类的比较方式由 {@link EqualsStrategy} 解析一次，之后只是一次查找和分发。
+ *
+ * （2）基本类型数组直接使用 {@link Arrays} 中对应的方法，基本类型字段不装箱。
+ *
+ * （3）循环引用：进入集合、map、数组、普通对象时记录正在比较的对象对，
+ * 再次遇到同一对对象时视为相同，不再递归。只有存在嵌套时才会创建记录。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class DeepEquals implements IDeepEquals {
+
+    /**
+     * 静态内部类实现单例
+     */
+    private static class SingletonHolder {
+        private static final DeepEquals INSTANCE = new DeepEquals();
+    }
+
+    /**
+     * 获取单例
+     * @return 单例
+     */
+    public static DeepEquals getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    @Override
+    public boolean isEquals(Object one, Object two) {
+        return isEquals(one, two, null);
+    }
+
+    /**
+     * 比较两个对象
+     * @param one 第一个对象
+     * @param two 第二个对象
+     * @param context 上下文，最外层为 null
+     * @return 是否相同
+     */
+    private boolean isEquals(final Object one, final Object two, Context context) {
+        if (one == two) {
+            return true;
+        }
+        if (one == null || two == null) {
+            return false;
+        }
+
+        final EqualsStrategy strategy = EqualsStrategy.of(one.getClass());
+        final EqualsKindEnum kind = strategy.kind();
+        if (kind == EqualsKindEnum.VALUE) {
+            return one.equals(two);
+        }
+        if (kind.primitiveArray()) {
+            return two.getClass() == one.getClass()
+                    && primitiveArrayEquals(kind, one, two);
+        }
+
+        // 最外层的对象对不需要记录，再次遇到时多递归一层即可发现
+        if (context == null) {
+            context = new Context();
+        } else if (!context.enter(one, two)) {
+            return true;
+        }
+
+        switch (kind) {
+            case BEAN:
+                return two.getClass() == one.getClass()
+                        && beanEquals(strategy, one, two, context);
+            case LIST:
+                return two instanceof List
+                        && listEquals((List) one, (List) two, context);
+            case COLLECTION:
+                return two instanceof Collection
+                        && ((Collection) one).size() == ((Collection) two).size()
+                        && iteratorEquals(((Collection) one).iterator(), ((Collection) two).iterator(), context);
+            case MAP:
+                return two instanceof Map
+                        && mapEquals((Map) one, (Map) two, context);
+            default:
+                return two instanceof Object[]
+                        && arrayEquals((Object[]) one, (Object[]) two, context);
+        }
+    }
+
+    /**
+     * 比较对象的字段
+     */
+    private boolean beanEquals(final EqualsStrategy strategy,
+                               final Object one,
+                               final Object two,
+                               final Context context) {
+        final int fieldCount = strategy.fieldCount();
+        // 基本类型字段的比较代价更低，先比较
+        for (int i = 0; i < fieldCount; i++) {
+            if (strategy.isPrimitiveField(i)
+                    && !strategy.primitiveFieldEquals(i, one, two)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < fieldCount; i++) {
+            if (strategy.isPrimitiveField(i)) {
+                continue;
+            }
+            final Object oneValue = strategy.field(i).accessor().get(one);
+            final Object twoValue = strategy.field(i).accessor().get(two);
+            if (!isEquals(oneValue, twoValue, context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 比较列表
+     */
+    private boolean listEquals(final List one, final List two, final Context context) {
+        final int size = one.size();
+        if (size != two.size()) {
+            return false;
+        }
+        if (one instanceof RandomAccess && two instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                if (!isEquals(one.get(i), two.get(i), context)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return iteratorEquals(one.iterator(), two.iterator(), context);
+    }
+
+    /**
+     * 按迭代顺序比较
+     */
+    private boolean iteratorEquals(final Iterator one, final Iterator two, final Context context) {
+        while (one.hasNext() && two.hasNext()) {
+            if (!isEquals(one.next(), two.next(), context)) {
+                return false;
+            }
+        }
+        return !one.hasNext() && !two.hasNext();
+    }
+
+    /**
+     * 比较 map
+     *
+     * 1. key 依赖 map 自身的查找，值进行深度比较。
+     */
+    private boolean mapEquals(final Map<?, ?> one, final Map<?, ?> two, final Context context) {
+        if (one.size() != two.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : one.entrySet()) {
+            final Object key = entry.getKey();
+            final Object twoValue = two.get(key);
+            if (twoValue == null && !two.containsKey(key)) {
+                return false;
+            }
+            if (!isEquals(entry.getValue(), twoValue, context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 比较对象数组
+     */
+    private boolean arrayEquals(final Object[] one, final Object[] two, final Context context) {
+        final int length = one.length;
+        if (length != two.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isEquals(one[i], two[i], context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 比较基本类型数组
+     * @param kind 策略类型
+     * @param one 第一个数组
+     * @param two 第二个数组，类型和第一个相同
+     * @return 是否相同
+     */
+    static boolean primitiveArrayEquals(final EqualsKindEnum kind, final Object one, final Object two) {
+        switch (kind) {
+            case BOOLEAN_ARRAY:
+                return Arrays.equals((boolean[]) one, (boolean[]) two);
+            case BYTE_ARRAY:
+                return Arrays.equals((byte[]) one, (byte[]) two);
+            case CHAR_ARRAY:
+                return Arrays.equals((char[]) one, (char[]) two);
+            case SHORT_ARRAY:
+                return Arrays.equals((short[]) one, (short[]) two);
+            case INT_ARRAY:
+                return Arrays.equals((int[]) one, (int[]) two);
+            case LONG_ARRAY:
+                return Arrays.equals((long[]) one, (long[]) two);
+            case FLOAT_ARRAY:
+                return Arrays.equals((float[]) one, (float[]) two);
+            default:
+                return Arrays.equals((double[]) one, (double[]) two);
+        }
+    }
+
+    /**
+     * 单次比较的上下文
+     */
+    private static final class Context {
+
+        /**
+         * 正在比较或者已经比较过的对象对
+         * 1. 一旦有不同就会直接返回，所以比较过的对象对一定是相同的
+         */
+        private Set<IdentityPair> visited;
+
+        /**
+         * 记录对象对
+         * @param one 第一个对象
+         * @param two 第二个对象
+         * @return 第一次遇到时返回 true
+         */
+        private boolean enter(final Object one, final Object two) {
+            if (visited == null) {
+                visited = new HashSet<>();
+            }
+            return visited.add(new IdentityPair(one, two));
+        }
+
+    }
+
+    /**
+     * 按引用比较的对象对
+     */
+    private static final class IdentityPair {
+
+        private final Object one;
+
+        private final Object two;
+
+        private IdentityPair(Object one, Object two) {
+            this.one = one;
+            this.two = two;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof IdentityPair)) {
+                return false;
+            }
+            IdentityPair other = (IdentityPair) object;
+            return one == other.one && two == other.two;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(one) * 31 + System.identityHashCode(two);
+        }
+
+    }
+
+}
@@ -0,0 +1,320 @@
+package com.github.houbb.heaven.support.equals.impl;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.constant.enums.EqualsKindEnum;
+import com.github.houbb.heaven.reflect.meta.ClassMeta;
+import com.github.houbb.heaven.reflect.meta.FieldMeta;
+import com.github.houbb.heaven.reflect.util.ClassMetas;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 单个类的比较策略
+ *
+ * 1. 类型判断只在创建时进行一次，比较时直接根据 {@link #kind()} 分发。
+ * 2. 普通对象的字段按照基本类型预先分类，比较基本类型字段时不装箱。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class EqualsStrategy {
+
+    /**
+     * 字段类型：对象
+     */
+    private static final int FIELD_OBJECT = 0;
+
+    private static final int FIELD_BOOLEAN = 1;
+
+    private static final int FIELD_BYTE = 2;
+
+    private static final int FIELD_CHAR = 3;
+
+    private static final int FIELD_SHORT = 4;
+
+    private static final int FIELD_INT = 5;
+
+    private static final int FIELD_LONG = 6;
+
+    private static final int FIELD_FLOAT = 7;
+
+    private static final int FIELD_DOUBLE = 8;
+
+    /**
+     * 策略缓存
+     */
+    private static final ClassValue<EqualsStrategy> CACHE = new ClassValue<EqualsStrategy>() {
+        @Override
+        protected EqualsStrategy computeValue(Class<?> type) {
+            return new EqualsStrategy(type);
+        }
+    };
+
+    /**
+     * 类型
+     */
+    private final Class<?> type;
+
+    /**
+     * 策略类型
+     */
+    private final EqualsKindEnum kind;
+
+    /**
+     * 参与比较的字段
+     * 1. 只有 {@link EqualsKindEnum#BEAN} 存在
+     */
+    private final FieldMeta[] fields;
+
+    /**
+     * 字段类型
+     */
+    private final int[] fieldKinds;
+
+    private EqualsStrategy(final Class<?> type) {
+        this.type = type;
+        this.kind = kindOf(type);
+
+        if (EqualsKindEnum.BEAN == kind) {
+            List<FieldMeta> fieldList = beanFields(type);
+            this.fields = fieldList.toArray(new FieldMeta[fieldList.size()]);
+            this.fieldKinds = new int[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldKinds[i] = fieldKindOf(fields[i].type());
+            }
+        } else {
+            this.fields = new FieldMeta[0];
+            this.fieldKinds = new int[0];
+        }
+    }
+
+    /**
+     * 获取类的比较策略
+     * @param type 类型
+     * @return 策略
+     */
+    public static EqualsStrategy of(final Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public EqualsKindEnum kind() {
+        return kind;
+    }
+
+    /**
+     * 参与比较的字段数量
+     * @return 数量
+     */
+    public int fieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * 参与比较的字段
+     * @param index 下标
+     * @return 字段
+     */
+    public FieldMeta field(final int index) {
+        return fields[index];
+    }
+
+    /**
+     * 字段是否为基本类型
+     * @param index 下标
+     * @return 是否
+     */
+    public boolean isPrimitiveField(final int index) {
+        return fieldKinds[index] != FIELD_OBJECT;
+    }
+
+    /**
+     * 比较两个对象中基本类型字段的值
+     *
+     * 1. 浮点数和包装类型的 equals 保持一致，NaN 和自身相同，0.0 和 -0.0 不同。
+     *
+     * @param index 下标
+     * @param one 第一个对象
+     * @param two 第二个对象
+     * @return 是否相同
+     */
+    public boolean primitiveFieldEquals(final int index, final Object one, final Object two) {
+        final FieldMeta field = fields[index];
+        switch (fieldKinds[index]) {
+            case FIELD_BOOLEAN:
+                return field.accessor().getBoolean(one) == field.accessor().getBoolean(two);
+            case FIELD_BYTE:
+                return field.accessor().getByte(one) == field.accessor().getByte(two);
+            case FIELD_CHAR:
+                return field.accessor().getChar(one) == field.accessor().getChar(two);
+            case FIELD_SHORT:
+                return field.accessor().getShort(one) == field.accessor().getShort(two);
+            case FIELD_INT:
+                return field.accessor().getInt(one) == field.accessor().getInt(two);
+            case FIELD_LONG:
+                return field.accessor().getLong(one) == field.accessor().getLong(two);
+            case FIELD_FLOAT:
+                return Float.floatToIntBits(field.accessor().getFloat(one))
+                        == Float.floatToIntBits(field.accessor().getFloat(two));
+            case FIELD_DOUBLE:
+                return Double.doubleToLongBits(field.accessor().getDouble(one))
+                        == Double.doubleToLongBits(field.accessor().getDouble(two));
+            default:
+                throw new IllegalStateException("Field is not primitive: " + field.name());
+        }
+    }
+
+    /**
+     * 计算策略类型
+     * @param type 类型
+     * @return 策略类型
+     */
+    private static EqualsKindEnum kindOf(final Class<?> type) {
+        if (type.isArray()) {
+            return arrayKindOf(type.getComponentType());
+        }
+        // Set 的元素比较本身依赖元素的 hashCode 和 equals，直接使用 Set 自身的 equals
+        if (Set.class.isAssignableFrom(type)) {
+            return EqualsKindEnum.VALUE;
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return EqualsKindEnum.LIST;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return EqualsKindEnum.COLLECTION;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return EqualsKindEnum.MAP;
+        }
+        if (type.isEnum()
+                || type.isSynthetic()
+                || isJdkClass(type)
+                || overridesEquals(type)) {
+            return EqualsKindEnum.VALUE;
+        }
+        return EqualsKindEnum.BEAN;
+    }
+
+    /**
+     * 数组的策略类型
+     * @param componentType 元素类型
+     * @return 策略类型
+     */
+    private static EqualsKindEnum arrayKindOf(final Class<?> componentType) {
+        switch (fieldKindOf(componentType)) {
+            case FIELD_BOOLEAN:
+                return EqualsKindEnum.BOOLEAN_ARRAY;
+            case FIELD_BYTE:
+                return EqualsKindEnum.BYTE_ARRAY;
+            case FIELD_CHAR:
+                return EqualsKindEnum.CHAR_ARRAY;
+            case FIELD_SHORT:
+                return EqualsKindEnum.SHORT_ARRAY;
+            case FIELD_INT:
+                return EqualsKindEnum.INT_ARRAY;
+            case FIELD_LONG:
+                return EqualsKindEnum.LONG_ARRAY;
+            case FIELD_FLOAT:
+                return EqualsKindEnum.FLOAT_ARRAY;
+            case FIELD_DOUBLE:
+                return EqualsKindEnum.DOUBLE_ARRAY;
+            default:
+                return EqualsKindEnum.OBJECT_ARRAY;
+        }
+    }
+
+    /**
+     * 参与比较的字段
+     *
+     * 1. 忽略静态字段和 transient 字段。
+     * 2. 忽略从 jdk 父类中继承的字段，这部分字段通常无法访问。
+     *
+     * @param type 类型
+     * @return 字段
+     */
+    private static List<FieldMeta> beanFields(final Class<?> type) {
+        final ClassMeta classMeta = ClassMetas.get(type);
+        List<FieldMeta> fieldList = new ArrayList<>(classMeta.fields().size());
+        for (FieldMeta fieldMeta : classMeta.fields()) {
+            final int access = fieldMeta.access();
+            if (Modifier.isStatic(access)
+                    || Modifier.isTransient(access)
+                    || isJdkClass(fieldMeta.field().getDeclaringClass())) {
+                continue;
+            }
+            fieldList.add(fieldMeta);
+        }
+        return fieldList;
+    }
+
+    /**
+     * 字段类型
+     * @param type 类型
+     * @return 字段类型
+     */
+    private static int fieldKindOf(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return FIELD_OBJECT;
+        }
+        if (boolean.class == type) {
+            return FIELD_BOOLEAN;
+        }
+        if (byte.class == type) {
+            return FIELD_BYTE;
+        }
+        if (char.class == type) {
+            return FIELD_CHAR;
+        }
+        if (short.class == type) {
+            return FIELD_SHORT;
+        }
+        if (int.class == type) {
+            return FIELD_INT;
+        }
+        if (long.class == type) {
+            return FIELD_LONG;
+        }
+        if (float.class == type) {
+            return FIELD_FLOAT;
+        }
+        return FIELD_DOUBLE;
+    }
+
+    /**
+     * 是否重写了 equals 方法
+     * @param type 类型
+     * @return 是否
+     */
+    private static boolean overridesEquals(final Class<?> type) {
+        try {
+            return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 是否为 jdk 中的类
+     * @param type 类型
+     * @return 是否
+     */
+    private static boolean isJdkClass(final Class<?> type) {
+        final String name = type.getName();
+        return type.isPrimitive()
+                || name.startsWith("java.")
+                || name.startsWith("javax.")
+                || name.startsWith("jdk.")
+                || name.startsWith("sun.")
+                || name.startsWith("com.sun.");
+    }
+
+}
@@ -0,0 +1,10 @@
+/**
+ * 对象深度比较
+ *
+ * 1. 比较策略按类缓存，同一个类只解析一次。
+ * 2. 对象之间存在循环引用时不会无限递归。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.support.equals;
@@ -0,0 +1,36 @@
+package com.github.houbb.heaven.support.instance;
+
+/**
+ * 实例作用域
+ *
+ * 1. 显式打开和关闭，同一个作用域内同一个类只有一个实例。
+ * 2. 和线程无关，适用于请求级别的对象，不会像 {@link Instance#threadLocal(Class)} 一样随线程数量增长。
+ * 3. 作用域本身不是线程安全的，应该在同一个请求的处理过程中使用。
+ *
+ * <pre>
+ * try (IInstanceScope scope = scopes.open()) {
+ *     Helper helper = scope.get(Helper.class);
+ * }
+ * </pre>
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IInstanceScope extends AutoCloseable {
+
+    /**
+     * 获取作用域内的实例
+     * @param tClass class 类型
+     * @param <T> 泛型
+     * @return 实例
+     */
+    <T> T get(final Class<T> tClass);
+
+    /**
+     * 关闭作用域，释放其中的实例
+     * 1. 重复关闭没有影响
+     */
+    @Override
+    void close();
+
+}
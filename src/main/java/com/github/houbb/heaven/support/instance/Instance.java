@@ -36,6 +36,7 @@ public interface Instance {
      * (1) 只要这个线程对象被gc回收，就不会出现内存泄露，但在threadLocal设为null和线程结束这段时间不会被回收的，就发生了我们认为的内存泄露。
      * 最要命的是线程对象不被回收的情况，这就发生了真正意义上的内存泄露。比如使用线程池的时候，线程结束是不会销毁的，会再次使用的。就可能出现内存泄露。　
      * 参考资料：https://www.cnblogs.com/onlywujun/p/3524675.html
+     * (2) 线程池中使用时，任务结束后调用 {@link com.github.houbb.heaven.support.instance.impl.InstanceFactory#clearThreadLocal()} 清空。
      * @param tClass class 类型
      * @param <T> 泛型
      * @return 实例化对象
@@ -55,6 +56,8 @@ public interface Instance {
      * 线程安全对象
      * 1. 判断当前类是否拥有 {@link com.github.houbb.heaven.annotation.ThreadSafe} 注解，
      * 如果有，则直接创建单例对象。如果不是，则创建多例对象。
+     * 2. 拥有 {@link com.github.houbb.heaven.annotation.ThreadScoped} 注解时，返回线程内唯一的对象。
+     * 3. 同时拥有 {@link com.github.houbb.heaven.annotation.NotThreadSafe} 注解时，创建多例对象。（0.1.13）
      * @param tClass class 类型
      * @param <T> 泛型
      * @return 实例化对象
@@ -0,0 +1,169 @@
+package com.github.houbb.heaven.support.instance.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.annotation.ThreadScoped;
+import com.github.houbb.heaven.constant.enums.InstanceStrategyEnum;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 单个类的实例信息
+ *
+ * 1. 通过 {@link ClassValue} 和类绑定，获取时不需要拼接 key。
+ * 2. 单例通过双重检查创建，同一个 key 只会创建一次；创建失败时不缓存，下次重新创建。
+ * 3. 创建策略根据注解解析一次，之后不再读取注解。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+final class ClassInstance {
+
+    /**
+     * 类型
+     */
+    private final Class<?> type;
+
+    /**
+     * 线程内实例的下标
+     * 1. 每个类唯一，用于直接定位线程内的实例数组
+     */
+    private final int slot;
+
+    /**
+     * 创建策略
+     */
+    private final InstanceStrategyEnum strategy;
+
+    /**
+     * 默认单例
+     */
+    private final Lazy singleton = new Lazy();
+
+    /**
+     * 分组和单例的映射
+     * 1. 只有分组第一次使用时才会创建 {@link Lazy}
+     */
+    private final ConcurrentMap<String, Lazy> groupMap = new ConcurrentHashMap<>();
+
+    ClassInstance(Class<?> type, int slot) {
+        this.type = type;
+        this.slot = slot;
+        this.strategy = resolveStrategy(type);
+    }
+
+    /**
+     * 根据注解解析创建策略
+     *
+     * 1. 注解都是 {@link java.lang.annotation.Inherited}，所以从当前类开始逐级向上查找直接声明的注解，最近的声明生效。
+     * 比如父类为 {@link NotThreadSafe}，子类为 {@link ThreadSafe} 时，子类为单例。
+     * 2. 同一个类上存在多个注解时，依次为 {@link ThreadScoped}、{@link NotThreadSafe}、{@link ThreadSafe}。
+     *
+     * @param type 类型
+     * @return 创建策略
+     */
+    private static InstanceStrategyEnum resolveStrategy(final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final InstanceStrategyEnum strategy = declaredStrategy(current);
+            if (strategy != null) {
+                return strategy;
+            }
+        }
+        return InstanceStrategyEnum.MULTIPLE;
+    }
+
+    /**
+     * 类上直接声明的创建策略
+     * @param type 类型
+     * @return 创建策略，没有声明时返回 null
+     */
+    private static InstanceStrategyEnum declaredStrategy(final Class<?> type) {
+        InstanceStrategyEnum strategy = null;
+        for (Annotation annotation : type.getDeclaredAnnotations()) {
+            final Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType == ThreadScoped.class) {
+                return InstanceStrategyEnum.THREAD_LOCAL;
+            }
+            if (annotationType == NotThreadSafe.class) {
+                strategy = InstanceStrategyEnum.MULTIPLE;
+            } else if (annotationType == ThreadSafe.class
+                    && strategy == null) {
+                strategy = InstanceStrategyEnum.SINGLETON;
+            }
+        }
+        return strategy;
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    InstanceStrategyEnum strategy() {
+        return strategy;
+    }
+
+    /**
+     * 获取单例
+     * @param factory 工厂
+     * @return 单例
+     */
+    Object singleton(final InstanceFactory factory) {
+        return singleton.get(factory, type);
+    }
+
+    /**
+     * 获取分组内的单例
+     * @param factory 工厂
+     * @param group 分组
+     * @return 单例
+     */
+    Object singleton(final InstanceFactory factory, final String group) {
+        Lazy lazy = groupMap.get(group);
+        if (lazy == null) {
+            lazy = new Lazy();
+            Lazy previous = groupMap.putIfAbsent(group, lazy);
+            if (previous != null) {
+                lazy = previous;
+            }
+        }
+        return lazy.get(factory, type);
+    }
+
+    /**
+     * 延迟创建的单例
+     */
+    private static final class Lazy {
+
+        private volatile Object instance;
+
+        /**
+         * 获取实例，不存在时创建
+         * @param factory 工厂
+         * @param type 类型
+         * @return 实例
+         */
+        private Object get(final InstanceFactory factory, final Class<?> type) {
+            Object result = instance;
+            if (result != null) {
+                return result;
+            }
+            synchronized (this) {
+                result = instance;
+                if (result == null) {
+                    result = factory.multiple(type);
+                    instance = result;
+                }
+                return result;
+            }
+        }
+
+    }
+
+}
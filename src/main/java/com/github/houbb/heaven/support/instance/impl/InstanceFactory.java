@@ -3,14 +3,17 @@ package com.github.houbb.heaven.support.instance.impl;
 
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.constant.PunctuationConst;
+import com.github.houbb.heaven.constant.enums.InstanceStrategyEnum;
+import com.github.houbb.heaven.reflect.accessor.Instantiators;
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
 import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.instance.IInstanceScope;
 import com.github.houbb.heaven.support.instance.Instance;
 import com.github.houbb.heaven.util.common.ArgUtil;
 import com.github.houbb.heaven.util.lang.ObjectUtil;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 实例化工厂类
@@ -23,15 +26,35 @@ public final class InstanceFactory implements Instance {
     private InstanceFactory(){}
 
     /**
-     * 单例 map 对象
-     * 1. key 是 class 的全称
+     * 每个类的实例信息
+     * 1. 单例按类、再按分组查找，不需要拼接 key
+     * @since 0.1.13
      */
-    private final Map<String, Object> singletonMap = new ConcurrentHashMap<>();
+    private final ClassValue<ClassInstance> classInstances = new ClassValue<ClassInstance>() {
+        @Override
+        protected ClassInstance computeValue(Class<?> type) {
+            return new ClassInstance(type, slotCounter.getAndIncrement());
+        }
+    };
 
     /**
-     * 线程内的 map 对象
+     * 线程内实例下标的分配器
+     * @since 0.1.13
      */
-    private ThreadLocal<Map<String, Object>> mapThreadLocal = new ThreadLocal<>();
+    private final AtomicInteger slotCounter = new AtomicInteger(0);
+
+    /**
+     * 线程内的实例
+     * 1. 线程私有，直接使用数组，按 {@link ClassInstance#slot()} 存取
+     * 2. 只在线程第一次使用时初始化，之后不再写入 {@link ThreadLocal}
+     * @since 0.1.13
+     */
+    private final ThreadLocal<ThreadInstances> threadInstances = new ThreadLocal<ThreadInstances>() {
+        @Override
+        protected ThreadInstances initialValue() {
+            return new ThreadInstances();
+        }
+    };
 
     /**
      * 静态内部类实现单例
@@ -73,8 +96,12 @@ public final class InstanceFactory implements Instance {
 
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T singleton(Class<T> tClass, String groupName) {
-        return getSingleton(tClass, groupName, singletonMap);
+        this.notNull(tClass);
+        ArgUtil.notEmpty(groupName, "key");
+
+        return (T) classInstances.get(tClass).singleton(this, groupName);
     }
 
     @Override
@@ -82,26 +109,57 @@ public final class InstanceFactory implements Instance {
     public <T> T singleton(Class<T> tClass) {
         this.notNull(tClass);
 
-        return this.getSingleton(tClass, singletonMap);
+        return (T) classInstances.get(tClass).singleton(this);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T threadLocal(Class<T> tClass) {
         this.notNull(tClass);
 
-        //1. 校验 map 是否存在
-        Map<String, Object> map = mapThreadLocal.get();
-        if(ObjectUtil.isNull(map)) {
-            map = new ConcurrentHashMap<>();
-        }
+        return (T) this.threadLocal(classInstances.get(tClass));
+    }
 
-        //2. 获取对象
-        T instance = this.getSingleton(tClass, map);
+    /**
+     * 获取线程内的实例
+     * @param classInstance 类的实例信息
+     * @return 实例
+     * @since 0.1.13
+     */
+    private Object threadLocal(final ClassInstance classInstance) {
+        final int slot = classInstance.slot();
+        final ThreadInstances instances = threadInstances.get();
+        Object instance = instances.get(slot);
+        if(ObjectUtil.isNull(instance)) {
+            instance = this.multiple(classInstance.type());
+            instances.set(slot, instance);
+        }
+        return instance;
+    }
 
-        //3. 更新 threadLocal
-        mapThreadLocal.set(map);
+    /**
+     * 清空当前线程内的实例
+     *
+     * 1. 线程池中的线程在任务结束时调用，避免实例一直被线程持有。
+     * 2. 之后再次调用 {@link #threadLocal(Class)} 时重新创建。
+     *
+     * @since 0.1.13
+     */
+    public void clearThreadLocal() {
+        threadInstances.remove();
+    }
 
-        return instance;
+    /**
+     * 打开实例作用域
+     *
+     * 1. 作用域内同一个类只创建一次，关闭后丢弃。
+     * 2. 需要复用实例时使用 {@link PooledInstanceScopes}。
+     *
+     * @return 作用域
+     * @since 0.1.13
+     */
+    public IInstanceScope openScope() {
+        return new InstanceScope(this);
     }
 
     @Override
@@ -109,67 +167,71 @@ public final class InstanceFactory implements Instance {
         this.notNull(tClass);
 
         try {
-            return tClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+            return Instantiators.of(tClass).newInstance();
+        } catch (ReflectRumtionException e) {
             throw new CommonRuntimeException(e);
         }
     }
 
     @Override
-    public <T> T threadSafe(Class<T> tClass) {
-        if(tClass.isAnnotationPresent(ThreadSafe.class)) {
-            return this.singleton(tClass);
-        }
-        return this.multiple(tClass);
-    }
-
-    /**
-     * 获取单例对象
-     * @param tClass class 类型
-     * @param instanceMap 实例化对象 map
-     * @return 单例对象
-     */
     @SuppressWarnings("unchecked")
-    private <T> T getSingleton(final Class<T> tClass, final Map<String, Object> instanceMap) {
+    public <T> T threadSafe(Class<T> tClass) {
         this.notNull(tClass);
 
-        final String fullClassName = tClass.getName();
-        T instance = (T) instanceMap.get(fullClassName);
-        if(ObjectUtil.isNull(instance)) {
-            instance = this.multiple(tClass);
-            instanceMap.put(fullClassName, instance);
+        final ClassInstance classInstance = classInstances.get(tClass);
+        switch (classInstance.strategy()) {
+            case SINGLETON:
+                return (T) classInstance.singleton(this);
+            case THREAD_LOCAL:
+                return (T) this.threadLocal(classInstance);
+            default:
+                return this.multiple(tClass);
         }
-        return instance;
     }
 
     /**
-     * 获取单例对象
-     * @param tClass 查询 tClass
-     * @param group 分组信息
-     * @param instanceMap 实例化对象 map
-     * @return 单例对象
+     * 获取类的创建策略
+     * 1. 根据注解解析一次后缓存
+     * @param tClass class 类型
+     * @return 创建策略
+     * @since 0.1.13
      */
-    @SuppressWarnings("unchecked")
-    private <T> T getSingleton(final Class<T> tClass,
-                               final String group, final Map<String, Object> instanceMap) {
+    public InstanceStrategyEnum strategy(final Class<?> tClass) {
         this.notNull(tClass);
-        ArgUtil.notEmpty(group, "key");
 
-        final String fullClassName = tClass.getName()+ PunctuationConst.MIDDLE_LINE+group;
-        T instance = (T) instanceMap.get(fullClassName);
-        if(ObjectUtil.isNull(instance)) {
-            instance = this.multiple(tClass);
-            instanceMap.put(fullClassName, instance);
-        }
-        return instance;
+        return classInstances.get(tClass).strategy();
     }
 
     /**
      * 断言参数不可为 null
      * @param tClass class 信息
      */
-    private void notNull(final Class tClass) {
+    private void notNull(final Class<?> tClass) {
         ArgUtil.notNull(tClass, "class");
     }
 
+    /**
+     * 线程内的实例
+     * @since 0.1.13
+     */
+    private static final class ThreadInstances {
+
+        /**
+         * 实例数组，下标为 {@link ClassInstance#slot()}
+         */
+        private Object[] instances = new Object[16];
+
+        private Object get(final int slot) {
+            return slot < instances.length ? instances[slot] : null;
+        }
+
+        private void set(final int slot, final Object instance) {
+            if (slot >= instances.length) {
+                instances = Arrays.copyOf(instances, Math.max(slot + 1, instances.length * 2));
+            }
+            instances[slot] = instance;
+        }
+
+    }
+
 }
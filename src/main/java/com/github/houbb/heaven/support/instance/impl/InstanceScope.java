@@ -0,0 +1,55 @@
+package com.github.houbb.heaven.support.instance.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.instance.IInstanceScope;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+/**
+ * 普通的实例作用域
+ *
+ * 1. 作用域内第一次获取时通过 {@link InstanceFactory#multiple(Class)} 创建，关闭时直接丢弃。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see InstanceFactory#openScope() 创建方式
+ */
+@NotThreadSafe
+public class InstanceScope implements IInstanceScope {
+
+    /**
+     * 实例化工厂
+     */
+    private final InstanceFactory instanceFactory;
+
+    /**
+     * 作用域内的实例
+     */
+    private ScopeInstances instances = new ScopeInstances();
+
+    InstanceScope(InstanceFactory instanceFactory) {
+        this.instanceFactory = instanceFactory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Class<T> tClass) {
+        ArgUtil.notNull(tClass, "class");
+        if (instances == null) {
+            throw new CommonRuntimeException("Scope is closed");
+        }
+
+        Object instance = instances.get(tClass);
+        if (instance == null) {
+            instance = instanceFactory.multiple(tClass);
+            instances.put(tClass, instance);
+        }
+        return (T) instance;
+    }
+
+    @Override
+    public void close() {
+        instances = null;
+    }
+
+}
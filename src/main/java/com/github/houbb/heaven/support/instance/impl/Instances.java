@@ -45,6 +45,15 @@ public final class Instances {
         return InstanceFactory.getInstance().threadLocal(tClass);
     }
 
+    /**
+     * 清空当前线程内的实例
+     * 1. 线程池中的线程在任务结束时调用
+     * @since 0.1.13
+     */
+    public static void clearThreadLocal() {
+        InstanceFactory.getInstance().clearThreadLocal();
+    }
+
     /**
      * {@link ThreadSafe} 线程安全标示的使用单例，或者使用多例
      * @param tClass class
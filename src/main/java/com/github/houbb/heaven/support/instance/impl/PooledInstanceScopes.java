@@ -0,0 +1,182 @@
+package com.github.houbb.heaven.support.instance.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.accessor.Instantiators;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.instance.IInstanceScope;
+import com.github.houbb.heaven.support.pool.IObjectResetter;
+import com.github.houbb.heaven.support.pool.impl.BoundedObjectPool;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 池化的实例作用域
+ *
+ * 1. 每个类对应一个 {@link BoundedObjectPool}，作用域内第一次获取时从池中借出，作用域关闭时重置并归还。
+ * 2. 请求级别的辅助对象可以在请求之间复用，不会随请求或者线程的数量增长。
+ * 3. 配置（上限、等待时间、重置）需要在第一次打开作用域之前完成。
+ * 上限和等待时间只影响之后创建的对象池；类的对象池创建之后再设置其重置会抛出异常。
+ *
+ * <pre>
+ * PooledInstanceScopes scopes = new PooledInstanceScopes().maxSize(64)
+ *         .resetter(Helper.class, helperResetter);
+ * try (IInstanceScope scope = scopes.open()) {
+ *     Helper helper = scope.get(Helper.class);
+ * }
+ * </pre>
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class PooledInstanceScopes {
+
+    /**
+     * 每个类最多创建的实例数量
+     */
+    private volatile int maxSize = 64;
+
+    /**
+     * 达到上限后最长等待时间
+     */
+    private volatile long maxWaitMills = 1000;
+
+    /**
+     * 每个类的重置
+     */
+    private final Map<Class, IObjectResetter> resetterMap = new ConcurrentHashMap<>();
+
+    /**
+     * 每个类的对象池
+     */
+    private final ConcurrentMap<Class, BoundedObjectPool> poolMap = new ConcurrentHashMap<>();
+
+    /**
+     * 每个类最多创建的实例数量
+     * @param maxSize 数量
+     * @return this
+     */
+    public PooledInstanceScopes maxSize(final int maxSize) {
+        ArgUtil.positive(maxSize, "maxSize");
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * 达到上限后最长等待时间
+     * @param maxWaitMills 毫秒
+     * @return this
+     */
+    public PooledInstanceScopes maxWaitMills(final long maxWaitMills) {
+        ArgUtil.notNegative(maxWaitMills, "maxWaitMills");
+        this.maxWaitMills = maxWaitMills;
+        return this;
+    }
+
+    /**
+     * 设置类的重置
+     * 1. 必须在该类的对象池创建之前设置
+     * @param tClass class 类型
+     * @param resetter 重置
+     * @param <T> 泛型
+     * @return this
+     */
+    public <T> PooledInstanceScopes resetter(final Class<T> tClass, final IObjectResetter<? super T> resetter) {
+        ArgUtil.notNull(tClass, "class");
+        ArgUtil.notNull(resetter, "resetter");
+        synchronized (poolMap) {
+            if (poolMap.containsKey(tClass)) {
+                throw new CommonRuntimeException("Pool of " + tClass.getName()
+                        + " is already created, resetter must be set before first use");
+            }
+            this.resetterMap.put(tClass, resetter);
+        }
+        return this;
+    }
+
+    /**
+     * 打开作用域
+     * @return 作用域
+     */
+    public IInstanceScope open() {
+        return new PooledInstanceScope(this);
+    }
+
+    /**
+     * 获取类对应的对象池，可以用于查看统计信息
+     * @param tClass class 类型
+     * @param <T> 泛型
+     * @return 对象池
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BoundedObjectPool<T> pool(final Class<T> tClass) {
+        BoundedObjectPool<T> pool = poolMap.get(tClass);
+        if (pool != null) {
+            return pool;
+        }
+
+        // 和 resetter 的设置互斥，保证池创建后重置不再变化
+        synchronized (poolMap) {
+            pool = poolMap.get(tClass);
+            if (pool == null) {
+                pool = new BoundedObjectPool<>(Instantiators.of(tClass),
+                        (IObjectResetter<T>) resetterMap.get(tClass), maxSize, maxWaitMills);
+                poolMap.put(tClass, pool);
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * 单个池化作用域
+     */
+    @NotThreadSafe
+    private static final class PooledInstanceScope implements IInstanceScope {
+
+        private final PooledInstanceScopes scopes;
+
+        /**
+         * 借出的实例
+         */
+        private ScopeInstances instances = new ScopeInstances();
+
+        private PooledInstanceScope(PooledInstanceScopes scopes) {
+            this.scopes = scopes;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Class<T> tClass) {
+            ArgUtil.notNull(tClass, "class");
+            if (instances == null) {
+                throw new CommonRuntimeException("Scope is closed");
+            }
+
+            Object instance = instances.get(tClass);
+            if (instance == null) {
+                instance = scopes.pool(tClass).borrow();
+                instances.put(tClass, instance);
+            }
+            return (T) instance;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void close() {
+            final ScopeInstances borrowed = instances;
+            if (borrowed == null) {
+                return;
+            }
+            instances = null;
+            for (int i = 0; i < borrowed.size(); i++) {
+                scopes.pool(borrowed.type(i)).release(borrowed.instance(i));
+            }
+        }
+
+    }
+
+}
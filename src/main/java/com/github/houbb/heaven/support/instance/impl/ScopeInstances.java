@@ -0,0 +1,65 @@
+package com.github.houbb.heaven.support.instance.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+
+import java.util.Arrays;
+
+/**
+ * 作用域内的实例
+ *
+ * 1. 一个作用域内的类通常很少，直接使用数组顺序查找，比 map 的创建成本更低。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@NotThreadSafe
+final class ScopeInstances {
+
+    private Class[] types = new Class[4];
+
+    private Object[] instances = new Object[4];
+
+    private int size;
+
+    /**
+     * 获取实例
+     * @param type 类型
+     * @return 实例，不存在时返回 null
+     */
+    Object get(final Class type) {
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type) {
+                return instances[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 放入实例，调用方保证类型不存在
+     * @param type 类型
+     * @param instance 实例
+     */
+    void put(final Class type, final Object instance) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            instances = Arrays.copyOf(instances, size * 2);
+        }
+        types[size] = type;
+        instances[size] = instance;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Class type(final int index) {
+        return types[index];
+    }
+
+    Object instance(final int index) {
+        return instances[index];
+    }
+
+}
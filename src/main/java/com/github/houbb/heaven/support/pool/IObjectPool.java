@@ -0,0 +1,32 @@
+package com.github.houbb.heaven.support.pool;
+
+/**
+ * 对象池接口
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IObjectPool<T> {
+
+    /**
+     * 借出对象
+     * 1. 池中没有空闲对象时创建新的对象
+     * @return 对象
+     */
+    T borrow();
+
+    /**
+     * 归还对象
+     * 1. 空闲对象已满时直接丢弃
+     * @param object 对象
+     */
+    void release(final T object);
+
+    /**
+     * 当前空闲对象的数量
+     * @return 数量
+     */
+    int idleCount();
+
+}
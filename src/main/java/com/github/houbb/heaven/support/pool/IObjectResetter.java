@@ -0,0 +1,21 @@
+package com.github.houbb.heaven.support.pool;
+
+/**
+ * 对象重置接口
+ *
+ * 1. 对象归还到池中之前调用，清理上一次使用留下的状态。
+ * 2. 抛出异常时对象直接丢弃，不再放回池中。
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IObjectResetter<T> {
+
+    /**
+     * 重置对象
+     * @param object 对象
+     */
+    void reset(final T object);
+
+}
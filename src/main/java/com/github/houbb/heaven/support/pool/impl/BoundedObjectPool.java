@@ -0,0 +1,219 @@
+package com.github.houbb.heaven.support.pool.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.api.IInstantiator;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.pool.IObjectPool;
+import com.github.houbb.heaven.support.pool.IObjectResetter;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 有界对象池
+ *
+ * （1）有界：通过 {@link Semaphore} 控制名额，借出的对象不超过 maxSize，
+ * 名额用完后借出需要等待其他线程归还，超时则抛出异常。
+ *
+ * （2）重置：归还时调用 {@link IObjectResetter}，重置失败的对象直接丢弃，名额同样被释放，
+ * 等待中的线程会被唤醒并重新创建对象。
+ *
+ * 只能归还从本池借出的对象，并且每个对象只能归还一次。
+ *
+ * （3）统计：命中（复用空闲对象）、未命中（新建对象）、等待的次数和耗时、超时次数。
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class BoundedObjectPool<T> implements IObjectPool<T> {
+
+    /**
+     * 实例化器
+     */
+    private final IInstantiator<T> instantiator;
+
+    /**
+     * 重置
+     */
+    private final IObjectResetter<T> resetter;
+
+    /**
+     * 最多创建的对象数量
+     */
+    private final int maxSize;
+
+    /**
+     * 最长等待时间
+     */
+    private final long maxWaitMills;
+
+    /**
+     * 空闲对象
+     */
+    private final BlockingQueue<T> idleQueue = new LinkedBlockingQueue<>();
+
+    /**
+     * 名额
+     * 1. 借出前获取，归还或者丢弃后释放，所以借出的对象数量不超过 maxSize。
+     * 2. 空闲对象只在持有名额时创建或者取出，所以对象总数也不超过 maxSize。
+     */
+    private final Semaphore permits;
+
+    /**
+     * 当前存活的对象数量
+     */
+    private final AtomicInteger createdCount = new AtomicInteger(0);
+
+    private final AtomicLong hitCount = new AtomicLong(0L);
+
+    private final AtomicLong missCount = new AtomicLong(0L);
+
+    private final AtomicLong waitCount = new AtomicLong(0L);
+
+    private final AtomicLong waitNanos = new AtomicLong(0L);
+
+    private final AtomicLong timeoutCount = new AtomicLong(0L);
+
+    /**
+     * @param instantiator 实例化器
+     * @param resetter 重置，可以为 null
+     * @param maxSize 最多创建的对象数量
+     * @param maxWaitMills 最长等待时间
+     */
+    public BoundedObjectPool(final IInstantiator<T> instantiator,
+                             final IObjectResetter<T> resetter,
+                             final int maxSize,
+                             final long maxWaitMills) {
+        ArgUtil.notNull(instantiator, "instantiator");
+        ArgUtil.positive(maxSize, "maxSize");
+        ArgUtil.notNegative(maxWaitMills, "maxWaitMills");
+
+        this.instantiator = instantiator;
+        this.resetter = resetter;
+        this.maxSize = maxSize;
+        this.maxWaitMills = maxWaitMills;
+        this.permits = new Semaphore(maxSize);
+    }
+
+    @Override
+    public T borrow() {
+        if (!permits.tryAcquire()) {
+            // 等待归还或者丢弃释放名额
+            final long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(maxWaitMills, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommonRuntimeException(e);
+            } finally {
+                waitCount.incrementAndGet();
+                waitNanos.addAndGet(System.nanoTime() - start);
+            }
+            if (!acquired) {
+                timeoutCount.incrementAndGet();
+                throw new CommonRuntimeException("Borrow timeout after " + maxWaitMills + " ms, maxSize: " + maxSize);
+            }
+        }
+
+        // 持有名额后优先复用空闲对象，没有空闲对象时创建
+        final T object = idleQueue.poll();
+        if (object != null) {
+            hitCount.incrementAndGet();
+            return object;
+        }
+
+        missCount.incrementAndGet();
+        try {
+            final T created = instantiator.newInstance();
+            createdCount.incrementAndGet();
+            return created;
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void release(T object) {
+        ArgUtil.notNull(object, "object");
+
+        try {
+            if (resetter != null) {
+                try {
+                    resetter.reset(object);
+                } catch (RuntimeException e) {
+                    // 状态无法恢复，丢弃
+                    createdCount.decrementAndGet();
+                    return;
+                }
+            }
+            idleQueue.offer(object);
+        } finally {
+            // 无论对象是否被丢弃都归还名额，唤醒等待的线程
+            permits.release();
+        }
+    }
+
+    @Override
+    public int idleCount() {
+        return idleQueue.size();
+    }
+
+    /**
+     * 当前存活的对象数量
+     * 1. 重置失败被丢弃的对象不计算在内
+     * @return 数量
+     */
+    public int createdCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * 复用空闲对象的次数
+     * @return 次数
+     */
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 新建对象的次数
+     * @return 次数
+     */
+    public long missCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 达到上限后等待的次数
+     * @return 次数
+     */
+    public long waitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * 等待的总耗时
+     * @return 纳秒
+     */
+    public long waitNanos() {
+        return waitNanos.get();
+    }
+
+    /**
+     * 等待超时的次数
+     * @return 次数
+     */
+    public long timeoutCount() {
+        return timeoutCount.get();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.github.houbb.heaven.support.pool.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.reflect.accessor.Instantiators;
+import com.github.houbb.heaven.reflect.api.IInstantiator;
+import com.github.houbb.heaven.support.pool.IObjectPool;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于实例化器的对象池
+ *
+ * 1. 借出和归还都是无锁操作，不会等待。
+ * 2. 只限制空闲对象的数量，借出的对象数量不做限制。
+ * 3. 对象归还前需要由调用方自行重置状态。
+ *
+ * @param <T> 泛型
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class InstantiatorObjectPool<T> implements IObjectPool<T> {
+
+    /**
+     * 实例化器
+     */
+    private final IInstantiator<T> instantiator;
+
+    /**
+     * 最大空闲数量
+     */
+    private final int maxIdle;
+
+    /**
+     * 空闲对象
+     */
+    private final Queue<T> idleQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 空闲对象的数量
+     * 1. {@link ConcurrentLinkedQueue#size()} 需要遍历，单独计数
+     */
+    private final AtomicInteger idleCount = new AtomicInteger(0);
+
+    /**
+     * @param type 类型，需要有无参构造器
+     * @param maxIdle 最大空闲数量
+     */
+    public InstantiatorObjectPool(final Class<T> type, final int maxIdle) {
+        this(Instantiators.of(type), maxIdle);
+    }
+
+    /**
+     * @param instantiator 实例化器
+     * @param maxIdle 最大空闲数量
+     */
+    public InstantiatorObjectPool(final IInstantiator<T> instantiator, final int maxIdle) {
+        ArgUtil.notNull(instantiator, "instantiator");
+        ArgUtil.positive(maxIdle, "maxIdle");
+
+        this.instantiator = instantiator;
+        this.maxIdle = maxIdle;
+    }
+
+    @Override
+    public T borrow() {
+        final T object = idleQueue.poll();
+        if (object != null) {
+            idleCount.decrementAndGet();
+            return object;
+        }
+        return instantiator.newInstance();
+    }
+
+    @Override
+    public void release(T object) {
+        ArgUtil.notNull(object, "object");
+
+        // 先占位再放入，保证空闲数量不会超过上限
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        idleQueue.offer(object);
+    }
+
+    @Override
+    public int idleCount() {
+        return idleCount.get();
+    }
+
+}
@@ -0,0 +1,9 @@
+/**
+ * 对象池
+ *
+ * 1. 适用于创建成本较高、可以重复使用的多例对象。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.support.pool;
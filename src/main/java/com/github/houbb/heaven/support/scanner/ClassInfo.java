@@ -0,0 +1,126 @@
+package com.github.houbb.heaven.support.scanner;
+
+import com.github.houbb.heaven.annotation.Immutable;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 类的头信息
+ *
+ * 1. 通过解析 class 文件得到，不加载类。
+ * 2. 名称均为 {@link Class#getName()} 的格式。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class ClassInfo {
+
+    /**
+     * class 文件中的注解标识
+     */
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    /**
+     * 类名称
+     */
+    private final String name;
+
+    /**
+     * 父类名称，没有父类时为 null
+     */
+    private final String superName;
+
+    /**
+     * 访问标识
+     */
+    private final int access;
+
+    /**
+     * 直接实现的接口（不可变）
+     */
+    private final List<String> interfaceNames;
+
+    /**
+     * 类上的注解（不可变）
+     */
+    private final List<String> annotationNames;
+
+    public ClassInfo(String name, String superName, int access,
+                     List<String> interfaceNames, List<String> annotationNames) {
+        this.name = name;
+        this.superName = superName;
+        this.access = access;
+        this.interfaceNames = interfaceNames;
+        this.annotationNames = annotationNames;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String superName() {
+        return superName;
+    }
+
+    public int access() {
+        return access;
+    }
+
+    public List<String> interfaceNames() {
+        return interfaceNames;
+    }
+
+    public List<String> annotationNames() {
+        return annotationNames;
+    }
+
+    /**
+     * 包名称
+     * @return 包名称，默认包为空字符串
+     */
+    public String packageName() {
+        final int index = name.lastIndexOf('.');
+        return index < 0 ? "" : name.substring(0, index);
+    }
+
+    public boolean isInterface() {
+        return Modifier.isInterface(access);
+    }
+
+    public boolean isAbstract() {
+        return Modifier.isAbstract(access);
+    }
+
+    public boolean isAnnotation() {
+        return (access & ACC_ANNOTATION) != 0;
+    }
+
+    /**
+     * 加载类
+     *
+     * 1. 不进行初始化
+     *
+     * @param classLoader 类加载器
+     * @return 类
+     */
+    public Class load(final ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClassInfo{" +
+                "name='" + name + '\'' +
+                ", superName='" + superName + '\'' +
+                ", interfaceNames=" + interfaceNames +
+                ", annotationNames=" + annotationNames +
+                '}';
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.github.houbb.heaven.support.scanner;
+
+/**
+ * 类路径扫描接口
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface IClassScanner {
+
+    /**
+     * 执行扫描
+     * @return 扫描结果
+     */
+    ScanResult scan();
+
+}
@@ -0,0 +1,192 @@
+package com.github.houbb.heaven.support.scanner;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 扫描结果
+ *
+ * 1. 创建时构建名称、注解、直接子类型的索引，之后的查询不再遍历所有类。
+ * 2. 子类型的查询只在扫描到的类中进行，父类型本身可以不在扫描范围内。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class ScanResult {
+
+    /**
+     * 名称和类信息的映射
+     * 1. 多个路径中存在同名的类时，保留第一个
+     */
+    private final Map<String, ClassInfo> classMap;
+
+    /**
+     * 注解和类信息的映射
+     */
+    private final Map<String, List<ClassInfo>> annotationMap;
+
+    /**
+     * 父类型和直接子类型的映射
+     */
+    private final Map<String, List<ClassInfo>> subTypeMap;
+
+    /**
+     * @param classInfos 类信息
+     */
+    public ScanResult(final Collection<ClassInfo> classInfos) {
+        Map<String, ClassInfo> map = new LinkedHashMap<>(classInfos.size() * 4 / 3 + 1);
+        for (ClassInfo classInfo : classInfos) {
+            if (!map.containsKey(classInfo.name())) {
+                map.put(classInfo.name(), classInfo);
+            }
+        }
+
+        Map<String, List<ClassInfo>> annotations = new HashMap<>();
+        Map<String, List<ClassInfo>> subTypes = new HashMap<>();
+        for (ClassInfo classInfo : map.values()) {
+            for (String annotationName : classInfo.annotationNames()) {
+                add(annotations, annotationName, classInfo);
+            }
+            if (classInfo.superName() != null) {
+                add(subTypes, classInfo.superName(), classInfo);
+            }
+            for (String interfaceName : classInfo.interfaceNames()) {
+                add(subTypes, interfaceName, classInfo);
+            }
+        }
+
+        this.classMap = Collections.unmodifiableMap(map);
+        this.annotationMap = annotations;
+        this.subTypeMap = subTypes;
+    }
+
+    /**
+     * 添加到索引
+     * @param map 索引
+     * @param key 键
+     * @param classInfo 类信息
+     */
+    private static void add(final Map<String, List<ClassInfo>> map,
+                            final String key,
+                            final ClassInfo classInfo) {
+        List<ClassInfo> list = map.get(key);
+        if (list == null) {
+            list = new ArrayList<>(2);
+            map.put(key, list);
+        }
+        list.add(classInfo);
+    }
+
+    /**
+     * 所有的类
+     * @return 不可变集合
+     */
+    public Collection<ClassInfo> classes() {
+        return classMap.values();
+    }
+
+    /**
+     * 根据名称获取类信息
+     * @param name 类名称
+     * @return 类信息，不存在时返回 null
+     */
+    public ClassInfo classInfo(final String name) {
+        return classMap.get(name);
+    }
+
+    /**
+     * 指定包下的类
+     * @param packageName 包名称
+     * @param recursive 是否包含子包
+     * @return 结果
+     */
+    public List<ClassInfo> classesInPackage(final String packageName, final boolean recursive) {
+        ArgUtil.notNull(packageName, "packageName");
+
+        final String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        List<ClassInfo> resultList = new ArrayList<>();
+        for (ClassInfo classInfo : classMap.values()) {
+            final String name = classInfo.name();
+            if (!name.startsWith(prefix)) {
+                continue;
+            }
+            if (recursive
+                    || name.indexOf('.', prefix.length()) < 0) {
+                resultList.add(classInfo);
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * 类上存在指定注解的类
+     * @param annotationName 注解名称
+     * @return 不可变列表
+     */
+    public List<ClassInfo> classesWithAnnotation(final String annotationName) {
+        List<ClassInfo> list = annotationMap.get(annotationName);
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 类上存在指定注解的类
+     * @param annotationClass 注解类
+     * @return 不可变列表
+     */
+    public List<ClassInfo> classesWithAnnotation(final Class annotationClass) {
+        ArgUtil.notNull(annotationClass, "annotationClass");
+        return classesWithAnnotation(annotationClass.getName());
+    }
+
+    /**
+     * 所有的子类型，包含间接继承和实现
+     * @param superName 父类或者接口名称
+     * @return 结果
+     */
+    public List<ClassInfo> subTypesOf(final String superName) {
+        List<ClassInfo> resultList = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(superName);
+        while (!queue.isEmpty()) {
+            List<ClassInfo> children = subTypeMap.get(queue.poll());
+            if (children == null) {
+                continue;
+            }
+            for (ClassInfo child : children) {
+                if (visited.add(child.name())) {
+                    resultList.add(child);
+                    queue.add(child.name());
+                }
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * 所有的子类型，包含间接继承和实现
+     * @param superClass 父类或者接口
+     * @return 结果
+     */
+    public List<ClassInfo> subTypesOf(final Class superClass) {
+        ArgUtil.notNull(superClass, "superClass");
+        return subTypesOf(superClass.getName());
+    }
+
+}
@@ -0,0 +1,298 @@
+package com.github.houbb.heaven.support.scanner.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.support.scanner.ClassInfo;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * class 文件头解析
+ *
+ * 1. 只读取常量池、类名、父类、接口以及类上的注解，字段和方法直接跳过。
+ * 2. 不加载类，也不依赖任何字节码框架。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public final class ClassHeaderParser {
+
+    /**
+     * 魔数
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * 运行时可见注解
+     */
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * 运行时不可见注解
+     */
+    private static final String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+
+    private ClassHeaderParser(){}
+
+    /**
+     * 解析类信息
+     *
+     * 1. 输入流由调用方负责关闭。
+     *
+     * @param inputStream 输入流
+     * @return 类信息
+     * @throws IOException 格式错误或者读取失败
+     */
+    public static ClassInfo parse(final InputStream inputStream) throws IOException {
+        final DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor_version + major_version
+        skipFully(in, 4);
+
+        final int poolCount = in.readUnsignedShort();
+        // utf8 常量的值
+        final String[] utf8s = new String[poolCount];
+        // class 常量指向的 utf8 下标
+        final int[] classIndexes = new int[poolCount];
+        for (int i = 1; i < poolCount; i++) {
+            final int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8s[i] = in.readUTF();
+                    break;
+                case 7:
+                    classIndexes[i] = in.readUnsignedShort();
+                    if (classIndexes[i] == 0 || classIndexes[i] >= poolCount) {
+                        throw new IOException("Illegal utf8 index: " + classIndexes[i]);
+                    }
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    skipFully(in, 2);
+                    break;
+                case 15:
+                    skipFully(in, 3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    skipFully(in, 4);
+                    break;
+                case 5:
+                case 6:
+                    // long 和 double 占用两个位置
+                    skipFully(in, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag: " + tag);
+            }
+        }
+
+        final int access = in.readUnsignedShort();
+        final String name = className(utf8s, classIndexes, in.readUnsignedShort());
+        final String superName = className(utf8s, classIndexes, in.readUnsignedShort());
+
+        final int interfaceCount = in.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(className(utf8s, classIndexes, in.readUnsignedShort()));
+        }
+
+        // fields + methods
+        skipMembers(in);
+        skipMembers(in);
+
+        List<String> annotationNames = new ArrayList<>(2);
+        final int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            final String attributeName = utf8(utf8s, in.readUnsignedShort());
+            final int length = in.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)
+                    || RUNTIME_INVISIBLE_ANNOTATIONS.equals(attributeName)) {
+                final int annotationCount = in.readUnsignedShort();
+                for (int j = 0; j < annotationCount; j++) {
+                    annotationNames.add(descriptorToName(utf8(utf8s, in.readUnsignedShort())));
+                    skipElementValuePairs(in);
+                }
+            } else {
+                skipFully(in, length);
+            }
+        }
+
+        return new ClassInfo(name, superName, access,
+                unmodifiable(interfaceNames), unmodifiable(annotationNames));
+    }
+
+    /**
+     * 不可变列表
+     * @param list 列表
+     * @return 结果
+     */
+    static List<String> unmodifiable(final List<String> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 跳过字段或者方法
+     * @param in 输入流
+     * @throws IOException 异常
+     */
+    private static void skipMembers(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            // access_flags + name_index + descriptor_index
+            skipFully(in, 6);
+            final int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                skipFully(in, 2);
+                skipFully(in, in.readInt());
+            }
+        }
+    }
+
+    /**
+     * 跳过注解的键值对
+     * @param in 输入流
+     * @throws IOException 异常
+     */
+    private static void skipElementValuePairs(final DataInputStream in) throws IOException {
+        final int pairCount = in.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            skipFully(in, 2);
+            skipElementValue(in);
+        }
+    }
+
+    /**
+     * 跳过注解的值
+     * @param in 输入流
+     * @throws IOException 异常
+     */
+    private static void skipElementValue(final DataInputStream in) throws IOException {
+        final int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'B':
+            case 'C':
+            case 'D':
+            case 'F':
+            case 'I':
+            case 'J':
+            case 'S':
+            case 'Z':
+            case 's':
+            case 'c':
+                skipFully(in, 2);
+                break;
+            case 'e':
+                skipFully(in, 4);
+                break;
+            case '@':
+                skipFully(in, 2);
+                skipElementValuePairs(in);
+                break;
+            case '[':
+                final int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue(in);
+                }
+                break;
+            default:
+                throw new IOException("Unknown element value tag: " + (char) tag);
+        }
+    }
+
+    /**
+     * 获取 class 常量对应的类名
+     * @param utf8s utf8 常量
+     * @param classIndexes class 常量
+     * @param index 下标
+     * @return 类名，下标为 0 时返回 null
+     * @throws IOException 下标非法
+     */
+    private static String className(final String[] utf8s,
+                                    final int[] classIndexes,
+                                    final int index) throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index >= classIndexes.length
+                || classIndexes[index] == 0) {
+            throw new IOException("Illegal class index: " + index);
+        }
+        return utf8(utf8s, classIndexes[index]).replace('/', '.');
+    }
+
+    /**
+     * 获取 utf8 常量
+     * @param utf8s utf8 常量
+     * @param index 下标
+     * @return 常量值
+     * @throws IOException 下标越界或者不是 utf8 常量
+     */
+    private static String utf8(final String[] utf8s,
+                               final int index) throws IOException {
+        if (index <= 0
+                || index >= utf8s.length
+                || utf8s[index] == null) {
+            throw new IOException("Illegal utf8 index: " + index);
+        }
+        return utf8s[index];
+    }
+
+    /**
+     * 描述符转换为类名
+     * 1. Lcom/github/Foo; 转换为 com.github.Foo
+     * @param descriptor 描述符
+     * @return 类名
+     */
+    private static String descriptorToName(final String descriptor) {
+        if (descriptor.length() > 2
+                && descriptor.charAt(0) == 'L'
+                && descriptor.charAt(descriptor.length() - 1) == ';') {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+    /**
+     * 跳过指定的字节数
+     * @param in 输入流
+     * @param length 长度
+     * @throws IOException 提前结束
+     */
+    private static void skipFully(final DataInputStream in, final int length) throws IOException {
+        int remain = length;
+        while (remain > 0) {
+            final int skipped = in.skipBytes(remain);
+            if (skipped <= 0) {
+                // skipBytes 在流结束时返回 0，通过 read 区分
+                if (in.read() < 0) {
+                    throw new EOFException();
+                }
+                remain--;
+            } else {
+                remain -= skipped;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,445 @@
+package com.github.houbb.heaven.support.scanner.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.scanner.ClassInfo;
+import com.github.houbb.heaven.support.scanner.IClassScanner;
+import com.github.houbb.heaven.support.scanner.ScanResult;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 类路径扫描
+ *
+ * （1）并行：每个目录或者 jar 作为一个任务，在线程池中并行遍历。
+ * 并行的粒度是路径，同一个 jar 内部的条目仍然在一个线程中顺序解析，
+ * 所以只有一个大 jar 时不会得到加速。
+ *
+ * （2）不加载类：通过 {@link ClassHeaderParser} 直接读取 class 文件头，不触发类加载和静态初始化。
+ *
+ * （3）索引：指定 {@link #indexFile(File)} 后，扫描结果会按路径写入索引文件。
+ * 下次扫描时，修改时间和大小都没有变化的路径直接使用索引中的结果，不再解析。
+ * 目录的修改时间取其中所有子目录和 class 文件的最大值，大小取 class 文件的大小之和，
+ * 所以新增、删除、修改 class 文件都会使索引失效。
+ *
+ * 不存在的路径和无法解析的 class 文件会被忽略，单个文件解析失败不会中断整个扫描。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@NotThreadSafe
+public class ClassScanner implements IClassScanner {
+
+    /**
+     * class 文件后缀
+     */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * 扫描的路径
+     * 1. 默认为 java.class.path
+     */
+    private List<File> roots;
+
+    /**
+     * 扫描的包
+     * 1. 为空时扫描全部
+     */
+    private List<String> packages = Collections.emptyList();
+
+    /**
+     * 线程数
+     * 1. 小于等于 0 时取路径数量和 CPU 核数中的较小值
+     */
+    private int threads = 0;
+
+    /**
+     * 索引文件
+     * 1. 为 null 时不使用索引
+     */
+    private File indexFile;
+
+    /**
+     * 扫描的路径
+     * @param roots 目录或者 jar 文件
+     * @return this
+     */
+    public ClassScanner roots(final List<File> roots) {
+        ArgUtil.notNull(roots, "roots");
+        this.roots = new ArrayList<>(roots);
+        return this;
+    }
+
+    /**
+     * 扫描的路径
+     * @param roots 目录或者 jar 文件
+     * @return this
+     */
+    public ClassScanner roots(final File... roots) {
+        ArgUtil.notNull(roots, "roots");
+        return roots(Arrays.asList(roots));
+    }
+
+    /**
+     * 扫描的包，包含子包
+     * @param packages 包名称
+     * @return this
+     */
+    public ClassScanner packages(final String... packages) {
+        ArgUtil.notNull(packages, "packages");
+        this.packages = Arrays.asList(packages);
+        return this;
+    }
+
+    /**
+     * 线程数
+     * @param threads 线程数
+     * @return this
+     */
+    public ClassScanner threads(final int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * 索引文件
+     * @param indexFile 索引文件
+     * @return this
+     */
+    public ClassScanner indexFile(final File indexFile) {
+        this.indexFile = indexFile;
+        return this;
+    }
+
+    @Override
+    public ScanResult scan() {
+        final List<File> rootList = this.roots == null ? defaultRoots() : this.roots;
+        final List<String> prefixes = pathPrefixes(packages);
+        final String packageKey = prefixes.toString();
+        final Map<String, ScanIndex.Entry> indexMap = indexFile == null
+                ? Collections.<String, ScanIndex.Entry>emptyMap()
+                : ScanIndex.load(indexFile, packageKey);
+
+        List<Callable<RootResult>> tasks = new ArrayList<>(rootList.size());
+        for (final File root : rootList) {
+            tasks.add(new Callable<RootResult>() {
+                @Override
+                public RootResult call() throws Exception {
+                    return scanRoot(root, prefixes, indexMap);
+                }
+            });
+        }
+
+        final List<RootResult> results = execute(tasks);
+        Map<String, ScanIndex.Entry> entryMap = new LinkedHashMap<>();
+        List<ClassInfo> classInfos = new ArrayList<>();
+        boolean changed = indexMap.size() != results.size();
+        for (RootResult result : results) {
+            if (result == null) {
+                continue;
+            }
+            entryMap.put(result.path, result.entry);
+            classInfos.addAll(result.entry.classInfos());
+            changed |= !result.reused;
+        }
+
+        if (indexFile != null && changed) {
+            ScanIndex.write(indexFile, packageKey, entryMap);
+        }
+        return new ScanResult(classInfos);
+    }
+
+    /**
+     * 执行任务
+     * @param tasks 任务
+     * @return 结果，顺序和任务一致
+     */
+    private List<RootResult> execute(final List<Callable<RootResult>> tasks) {
+        final int poolSize = threads > 0 ? threads
+                : Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+        List<RootResult> results = new ArrayList<>(tasks.size());
+        try {
+            if (poolSize <= 1 || tasks.size() <= 1) {
+                for (Callable<RootResult> task : tasks) {
+                    results.add(task.call());
+                }
+                return results;
+            }
+
+            ExecutorService executorService = Executors.newFixedThreadPool(poolSize, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "heaven-class-scanner");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            try {
+                for (Future<RootResult> future : executorService.invokeAll(tasks)) {
+                    results.add(future.get());
+                }
+                return results;
+            } finally {
+                executorService.shutdownNow();
+            }
+        } catch (ExecutionException e) {
+            throw new CommonRuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonRuntimeException(e);
+        } catch (Exception e) {
+            throw new CommonRuntimeException(e);
+        }
+    }
+
+    /**
+     * 扫描单个路径
+     * @param root 路径
+     * @param prefixes 包路径前缀
+     * @param indexMap 索引
+     * @return 结果，路径不存在时返回 null
+     * @throws IOException 异常
+     */
+    private static RootResult scanRoot(final File root,
+                                       final List<String> prefixes,
+                                       final Map<String, ScanIndex.Entry> indexMap) throws IOException {
+        final String path = root.getAbsolutePath();
+        final ScanIndex.Entry cached = indexMap.get(path);
+        if (root.isDirectory()) {
+            return scanDirectory(root, path, prefixes, cached);
+        }
+        if (root.isFile()) {
+            return scanJar(root, path, prefixes, cached);
+        }
+        return null;
+    }
+
+    /**
+     * 扫描目录
+     *
+     * 1. 先遍历一次得到文件列表和指纹，指纹和索引一致时不再读取文件内容。
+     */
+    private static RootResult scanDirectory(final File root,
+                                            final String path,
+                                            final List<String> prefixes,
+                                            final ScanIndex.Entry cached) throws IOException {
+        final List<Path> classFiles = new ArrayList<>();
+        final long[] fingerprint = new long[2];
+        SimpleFileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                fingerprint[0] = Math.max(fingerprint[0], attrs.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                final String fileName = file.getFileName().toString();
+                if (attrs.isRegularFile() && isClassFile(fileName)) {
+                    fingerprint[0] = Math.max(fingerprint[0], attrs.lastModifiedTime().toMillis());
+                    fingerprint[1] += attrs.size();
+                    classFiles.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        };
+
+        if (prefixes.isEmpty()) {
+            Files.walkFileTree(root.toPath(), visitor);
+        } else {
+            for (String prefix : prefixes) {
+                final File dir = new File(root, prefix);
+                if (dir.isDirectory()) {
+                    Files.walkFileTree(dir.toPath(), visitor);
+                }
+            }
+        }
+
+        if (cached != null && cached.matches(fingerprint[0], fingerprint[1])) {
+            return new RootResult(path, cached, true);
+        }
+
+        List<ClassInfo> classInfos = new ArrayList<>(classFiles.size());
+        for (Path classFile : classFiles) {
+            try (InputStream inputStream = Files.newInputStream(classFile)) {
+                classInfos.add(ClassHeaderParser.parse(inputStream));
+            } catch (IOException | RuntimeException e) {
+                // 损坏或者无法读取的 class 文件直接忽略，不影响其他文件
+            }
+        }
+        return new RootResult(path, new ScanIndex.Entry(fingerprint[0], fingerprint[1], classInfos), false);
+    }
+
+    /**
+     * 扫描 jar 文件
+     *
+     * 1. 修改时间和大小和索引一致时不再打开文件。
+     */
+    private static RootResult scanJar(final File root,
+                                      final String path,
+                                      final List<String> prefixes,
+                                      final ScanIndex.Entry cached) throws IOException {
+        final long lastModified = root.lastModified();
+        final long size = root.length();
+        if (cached != null && cached.matches(lastModified, size)) {
+            return new RootResult(path, cached, true);
+        }
+
+        List<ClassInfo> classInfos = new ArrayList<>();
+        final JarFile jarFile;
+        try {
+            jarFile = new JarFile(root);
+        } catch (IOException e) {
+            // 不是 jar 文件
+            return new RootResult(path, new ScanIndex.Entry(lastModified, size, classInfos), false);
+        }
+
+        try {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                final String name = entry.getName();
+                if (entry.isDirectory()
+                        || name.startsWith("META-INF/")
+                        || !isClassFile(name.substring(name.lastIndexOf('/') + 1))
+                        || !matchesPrefix(name, prefixes)) {
+                    continue;
+                }
+
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    classInfos.add(ClassHeaderParser.parse(inputStream));
+                } catch (IOException | RuntimeException e) {
+                    // 损坏的 class 文件直接忽略，不影响其他条目
+                }
+            }
+        } finally {
+            jarFile.close();
+        }
+        return new RootResult(path, new ScanIndex.Entry(lastModified, size, classInfos), false);
+    }
+
+    /**
+     * 是否为普通的 class 文件
+     * 1. 排除 module-info.class 和 package-info.class
+     * @param fileName 文件名称
+     * @return 是否
+     */
+    private static boolean isClassFile(final String fileName) {
+        return fileName.endsWith(CLASS_SUFFIX)
+                && fileName.indexOf('-') < 0;
+    }
+
+    /**
+     * 是否匹配包路径前缀
+     * @param name 条目名称
+     * @param prefixes 前缀
+     * @return 是否
+     */
+    private static boolean matchesPrefix(final String name, final List<String> prefixes) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 包名转换为路径前缀
+     *
+     * 1. 去掉被其他包包含的子包，避免重复扫描。
+     * 2. 结果有序，作为索引的一部分。
+     *
+     * @param packages 包名称
+     * @return 路径前缀，以 / 结尾
+     */
+    private static List<String> pathPrefixes(final List<String> packages) {
+        List<String> sorted = new ArrayList<>(packages.size());
+        for (String packageName : packages) {
+            if (packageName == null || packageName.trim().isEmpty()) {
+                // 包含默认包即扫描全部
+                return Collections.emptyList();
+            }
+            sorted.add(packageName.trim().replace('.', '/') + "/");
+        }
+        Collections.sort(sorted);
+
+        List<String> prefixes = new ArrayList<>(sorted.size());
+        for (String prefix : sorted) {
+            if (prefixes.isEmpty()
+                    || !prefix.startsWith(prefixes.get(prefixes.size() - 1))) {
+                prefixes.add(prefix);
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * 默认的扫描路径
+     * @return java.class.path
+     */
+    private static List<File> defaultRoots() {
+        final String classPath = System.getProperty("java.class.path", "");
+        List<File> files = new ArrayList<>();
+        for (String path : classPath.split(File.pathSeparator)) {
+            if (!path.isEmpty()) {
+                files.add(new File(path));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 单个路径的扫描结果
+     */
+    private static final class RootResult {
+
+        private final String path;
+
+        private final ScanIndex.Entry entry;
+
+        /**
+         * 是否直接使用了索引
+         */
+        private final boolean reused;
+
+        private RootResult(String path, ScanIndex.Entry entry, boolean reused) {
+            this.path = path;
+            this.entry = entry;
+            this.reused = reused;
+        }
+
+    }
+
+}
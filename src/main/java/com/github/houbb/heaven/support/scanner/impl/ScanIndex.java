@@ -0,0 +1,220 @@
+package com.github.houbb.heaven.support.scanner.impl;
+
+import com.github.houbb.heaven.support.scanner.ClassInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 扫描结果的索引文件
+ *
+ * 格式（大端）：
+ * <pre>
+ * int    魔数
+ * int    版本
+ * utf    扫描的包，多个以逗号分隔
+ * int    路径数量
+ *   utf  路径
+ *   long 修改时间
+ *   long 大小
+ *   int  类数量
+ *     utf   类名
+ *     utf   父类，没有时为空字符串
+ *     short 访问标识
+ *     short 接口数量 + utf...
+ *     short 注解数量 + utf...
+ * </pre>
+ *
+ * 1. 读取失败（文件不存在、版本不一致、格式错误）时视为没有索引，重新扫描。
+ * 2. 写入时先写临时文件再替换，不会留下写了一半的索引。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+final class ScanIndex {
+
+    /**
+     * 魔数
+     */
+    private static final int MAGIC = 0x48534349;
+
+    /**
+     * 版本，格式变化时递增
+     */
+    private static final int VERSION = 1;
+
+    private ScanIndex(){}
+
+    /**
+     * 加载索引
+     * @param file 索引文件
+     * @param packages 扫描的包，和写入时不一致则忽略整个索引
+     * @return 路径和索引项的映射，无法使用时返回空集合
+     */
+    static Map<String, Entry> load(final File file, final String packages) {
+        if (!file.isFile()) {
+            return Collections.emptyMap();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC
+                    || in.readInt() != VERSION
+                    || !packages.equals(in.readUTF())) {
+                return Collections.emptyMap();
+            }
+
+            final int rootCount = in.readInt();
+            Map<String, Entry> map = new HashMap<>(rootCount * 4 / 3 + 1);
+            for (int i = 0; i < rootCount; i++) {
+                final String root = in.readUTF();
+                final long lastModified = in.readLong();
+                final long size = in.readLong();
+                final int classCount = in.readInt();
+                List<ClassInfo> classInfos = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    final String name = in.readUTF();
+                    final String superName = in.readUTF();
+                    final int access = in.readUnsignedShort();
+                    final List<String> interfaceNames = readNames(in);
+                    final List<String> annotationNames = readNames(in);
+                    classInfos.add(new ClassInfo(name, superName.isEmpty() ? null : superName,
+                            access, interfaceNames, annotationNames));
+                }
+                map.put(root, new Entry(lastModified, size, classInfos));
+            }
+            return map;
+        } catch (IOException | RuntimeException e) {
+            // 索引损坏时重新扫描即可
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 写入索引
+     *
+     * 1. 写入失败时忽略，不影响本次扫描的结果。
+     *
+     * @param file 索引文件
+     * @param packages 扫描的包
+     * @param entryMap 路径和索引项的映射
+     */
+    static void write(final File file, final String packages, final Map<String, Entry> entryMap) {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        File tempFile = null;
+        try {
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                return;
+            }
+            tempFile = File.createTempFile(file.getName(), ".tmp", parent);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(packages);
+                out.writeInt(entryMap.size());
+                for (Map.Entry<String, Entry> mapEntry : entryMap.entrySet()) {
+                    final Entry entry = mapEntry.getValue();
+                    out.writeUTF(mapEntry.getKey());
+                    out.writeLong(entry.lastModified);
+                    out.writeLong(entry.size);
+                    out.writeInt(entry.classInfos.size());
+                    for (ClassInfo classInfo : entry.classInfos) {
+                        out.writeUTF(classInfo.name());
+                        out.writeUTF(classInfo.superName() == null ? "" : classInfo.superName());
+                        out.writeShort(classInfo.access());
+                        writeNames(out, classInfo.interfaceNames());
+                        writeNames(out, classInfo.annotationNames());
+                    }
+                }
+            }
+
+            try {
+                Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException | RuntimeException e) {
+            // 索引只是缓存，写入失败时下次重新扫描
+        } finally {
+            if (tempFile != null) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    private static List<String> readNames(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+        }
+        return ClassHeaderParser.unmodifiable(names);
+    }
+
+    private static void writeNames(final DataOutputStream out, final List<String> names) throws IOException {
+        out.writeShort(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    /**
+     * 单个路径的索引项
+     */
+    static final class Entry {
+
+        /**
+         * 修改时间
+         * 1. 目录为其中最新的修改时间
+         */
+        private final long lastModified;
+
+        /**
+         * 大小
+         * 1. 目录为其中 class 文件的大小之和
+         */
+        private final long size;
+
+        /**
+         * 类信息
+         */
+        private final List<ClassInfo> classInfos;
+
+        Entry(long lastModified, long size, List<ClassInfo> classInfos) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.classInfos = classInfos;
+        }
+
+        /**
+         * 是否和当前的文件状态一致
+         * @param lastModified 修改时间
+         * @param size 大小
+         * @return 是否
+         */
+        boolean matches(final long lastModified, final long size) {
+            return this.lastModified == lastModified
+                    && this.size == size;
+        }
+
+        List<ClassInfo> classInfos() {
+            return classInfos;
+        }
+
+    }
+
+}
@@ -0,0 +1,10 @@
+/**
+ * 类路径扫描
+ *
+ * 1. 直接解析 class 文件头，不加载类，不触发静态初始化。
+ * 2. 扫描结果可以持久化为索引文件，下次启动时未变化的路径直接复用。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+package com.github.houbb.heaven.support.scanner;
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id;
+
+/**
+ * 基础类型 long 的 ID 接口
+ *
+ * 1. 直接返回 long，避免 {@link Id#genId()} 中 String.valueOf 带来的对象创建。
+ * 2. 适用于数据库主键等本身就是数字的场景。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public interface LongId {
+
+    /**
+     * 生成下一个唯一标识
+     * @return ID
+     */
+    long nextLong();
+
+    /**
+     * 批量生成唯一标识，填充到目标数组中
+     * 1. 数组的每一个元素都会被覆盖
+     * @param dst 目标数组
+     */
+    void nextLongs(final long[] dst);
+
+}
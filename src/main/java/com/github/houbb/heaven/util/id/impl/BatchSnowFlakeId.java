@@ -0,0 +1,124 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.Id;
+import com.github.houbb.heaven.util.id.LongId;
+
+/**
+ * <p> 批量预留的雪花算法 </p>
+ *
+ * 每个线程通过 {@link LockFreeSnowFlakeId#reserve(long[], int, int)} 一次性预留一段连续的序列号，
+ * 放入线程内的缓冲区，之后在本地依次返回，直到缓冲区耗尽才再次访问共享状态。
+ *
+ * 注意：
+ * （1）同一个线程内返回的 ID 是递增的，但是不同线程之间的 ID 不保证全局有序。
+ * （2）缓冲区中的 ID 可能属于之前的毫秒，适用于批量导入等只要求唯一性的场景。
+ * （3）线程池中的线程会一直持有自己的缓冲区，未使用的 ID 在线程结束后直接丢弃。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see LockFreeSnowFlakeId 无锁雪花算法
+ */
+@ThreadSafe
+public class BatchSnowFlakeId implements Id, LongId {
+
+    /**
+     * 默认批量大小
+     */
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * 真正生成 ID 的实现
+     */
+    private final LockFreeSnowFlakeId snowFlakeId;
+
+    /**
+     * 线程内的缓冲区
+     */
+    private final ThreadLocal<Buffer> bufferThreadLocal;
+
+    public BatchSnowFlakeId() {
+        this(new LockFreeSnowFlakeId(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param workerId     工作机器ID
+     * @param datacenterId 序列号
+     */
+    public BatchSnowFlakeId(long workerId, long datacenterId) {
+        this(new LockFreeSnowFlakeId(workerId, datacenterId), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param snowFlakeId 无锁雪花算法
+     * @param batchSize 每次预留的数量
+     */
+    public BatchSnowFlakeId(final LockFreeSnowFlakeId snowFlakeId, final int batchSize) {
+        ArgUtil.notNull(snowFlakeId, "snowFlakeId");
+        ArgUtil.positive(batchSize, "batchSize");
+        ArgUtil.assertTrue(batchSize <= snowFlakeId.layout().maxSequence() + 1, "batchSize <= maxSequence + 1");
+
+        this.snowFlakeId = snowFlakeId;
+        this.bufferThreadLocal = new ThreadLocal<Buffer>() {
+            @Override
+            protected Buffer initialValue() {
+                return new Buffer(batchSize);
+            }
+        };
+    }
+
+    @Override
+    public String genId() {
+        return String.valueOf(this.nextLong());
+    }
+
+    @Override
+    public long nextLong() {
+        final Buffer buffer = bufferThreadLocal.get();
+        if (buffer.index >= buffer.size) {
+            buffer.size = snowFlakeId.reserve(buffer.ids, 0, buffer.ids.length);
+            buffer.index = 0;
+        }
+        return buffer.ids[buffer.index++];
+    }
+
+    @Override
+    public void nextLongs(long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = this.nextLong();
+        }
+    }
+
+    /**
+     * 线程内缓冲区
+     */
+    private static final class Buffer {
+
+        /**
+         * 预留的 ID
+         */
+        private final long[] ids;
+
+        /**
+         * 下一个待返回的下标
+         */
+        private int index;
+
+        /**
+         * 有效的数量
+         */
+        private int size;
+
+        private Buffer(final int batchSize) {
+            this.ids = new long[batchSize];
+        }
+
+    }
+
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.constant.enums.ClockSkewPolicyEnum;
+import com.github.houbb.heaven.constant.enums.SequenceExhaustPolicyEnum;
+import com.github.houbb.heaven.support.clock.IClock;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.Id;
+import com.github.houbb.heaven.util.id.LongId;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> 无锁雪花算法 19 位 </p>
+ *
+ * 默认和 {@link SnowFlakeId} 保持相同的位分布：41 位时间戳 + 5 位数据中心 + 5 位机器 + 12 位序列号，
+ * 可以通过 {@link SnowFlakeLayout} 调整。
+ *
+ * 区别在于不再使用 synchronized 串行化，而是将「时间戳 + 序列号」打包为一个 {@link AtomicLong} 状态字，
+ * 每次生成通过 CAS 推进状态，多核下不会在同一个监视器上排队。
+ *
+ * （1）时钟回拨：默认回拨在 5 毫秒以内时，沿用上一次的时间戳继续自增序列号，不再 wait；
+ * 超过则直接抛出异常。可以通过 {@link ClockSkewPolicyEnum} 调整。
+ *
+ * （2）序列号耗尽：默认自旋等待到下一个毫秒后重试。可以通过 {@link SequenceExhaustPolicyEnum} 调整为借用未来毫秒。
+ *
+ * （3）批量预留：{@link #reserve(long[], int, int)} 一次 CAS 预留一段连续的序列号。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see SnowFlakeId 同步版本
+ * @see SnowFlakeIdBuilder 构建者
+ */
+@ThreadSafe
+public class LockFreeSnowFlakeId implements Id, LongId {
+
+    /**
+     * 已经等待过，需要重新读取状态
+     */
+    private static final long RETRY = -1L;
+
+    /**
+     * 因时钟回拨等待过，需要重新读取状态
+     */
+    private static final long RETRY_AFTER_SKEW = -2L;
+
+    /**
+     * 等待下一个毫秒时，时钟最长允许停止的纳秒数
+     */
+    private static final long MAX_STALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 位分布
+     */
+    private final SnowFlakeLayout layout;
+
+    /**
+     * 序列号位数
+     * 1. 冗余 {@link #layout} 中的字段，避免热点路径上的间接访问
+     */
+    private final int sequenceBits;
+
+    /**
+     * 序列号掩码
+     */
+    private final long sequenceMask;
+
+    /**
+     * 时间戳可以表示的最大值
+     */
+    private final long maxTimestamp;
+
+    /**
+     * 时间起始标记点
+     */
+    private final long epoch;
+
+    /**
+     * 数据中心 + 机器标识部分
+     * 1. 构建时计算一次，生成时直接或运算
+     */
+    private final long workerPart;
+
+    /**
+     * 时钟
+     */
+    private final IClock clock;
+
+    /**
+     * 时钟回拨处理策略
+     */
+    private final ClockSkewPolicyEnum clockSkewPolicy;
+
+    /**
+     * 允许容忍的最大时钟回拨毫秒数
+     */
+    private final long maxBackwardMills;
+
+    /**
+     * 序列号耗尽处理策略
+     */
+    private final SequenceExhaustPolicyEnum sequenceExhaustPolicy;
+
+    /**
+     * 允许借用的最大未来毫秒数
+     */
+    private final long maxBorrowMills;
+
+    /**
+     * 状态字
+     * 高位：相对 {@link #epoch} 的时间戳，低 {@link #sequenceBits} 位：序列号
+     */
+    private final AtomicLong state = new AtomicLong(0L);
+
+    /**
+     * 自旋等待次数
+     */
+    private final AtomicLong spinCount = new AtomicLong(0L);
+
+    /**
+     * 观测到时钟回拨的次数
+     */
+    private final AtomicLong skewCount = new AtomicLong(0L);
+
+    /**
+     * 借用未来毫秒的次数
+     */
+    private final AtomicLong borrowCount = new AtomicLong(0L);
+
+    public LockFreeSnowFlakeId() {
+        this(new SnowFlakeIdBuilder());
+    }
+
+    /**
+     * @param workerId     工作机器ID
+     * @param datacenterId 序列号
+     */
+    public LockFreeSnowFlakeId(long workerId, long datacenterId) {
+        this(new SnowFlakeIdBuilder().workerId(workerId).datacenterId(datacenterId));
+    }
+
+    /**
+     * 基于构建者初始化
+     * @param builder 构建者
+     * @since 0.1.13
+     */
+    LockFreeSnowFlakeId(final SnowFlakeIdBuilder builder) {
+        this.layout = builder.layout();
+        this.sequenceBits = layout.sequenceBits();
+        this.sequenceMask = layout.maxSequence();
+        this.maxTimestamp = layout.maxTimestamp();
+        this.epoch = layout.epoch();
+
+        final long maxDatacenterId = layout.maxDatacenterId();
+        final long maxWorkerId = layout.maxWorkerId();
+        long datacenterId = builder.datacenterId() == null
+                ? builder.datacenterIdAssigner().assign(maxDatacenterId) : builder.datacenterId();
+        long workerId = builder.workerId() == null
+                ? builder.workerIdAssigner().assign(maxWorkerId) : builder.workerId();
+        if (workerId > maxWorkerId || workerId < 0) {
+            throw new RuntimeException(String.format("worker Id can't be greater than %d or less than 0", maxWorkerId));
+        }
+        if (datacenterId > maxDatacenterId || datacenterId < 0) {
+            throw new RuntimeException(
+                    String.format("datacenter Id can't be greater than %d or less than 0", maxDatacenterId));
+        }
+        this.workerPart = layout.workerPart(workerId, datacenterId);
+        this.clock = builder.clock();
+        this.clockSkewPolicy = builder.clockSkewPolicy();
+        this.maxBackwardMills = builder.maxBackwardMills();
+        this.sequenceExhaustPolicy = builder.sequenceExhaustPolicy();
+        this.maxBorrowMills = builder.maxBorrowMills();
+
+        // 当前时间必须落在时间戳位数可以表示的范围内
+        final long timestamp = clock.currentTimeMillis() - epoch;
+        if (timestamp < 0 || timestamp > maxTimestamp) {
+            throw new RuntimeException(String.format("Current time is out of range of layout %s", layout));
+        }
+    }
+
+    /**
+     * 获取下一个ID
+     *
+     * @return next id
+     */
+    private long nextId() {
+        boolean skewWaited = false;
+        while (true) {
+            final long current = state.get();
+            final long timestamp = timeGen() - epoch;
+            final long next = nextStart(current, timestamp);
+            if (next < 0) {
+                skewWaited |= next == RETRY_AFTER_SKEW;
+                continue;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                statSkew(skewWaited, current, timestamp);
+                statBorrow(current, next, timestamp);
+                return toId(next);
+            }
+        }
+    }
+
+    /**
+     * 计算下一个可用的状态字
+     *
+     * @param current 当前状态字
+     * @param timestamp 当前相对时间戳
+     * @return 下一个状态字，小于 0 表示已经等待过，需要重新读取状态，参见 {@link #RETRY} 和 {@link #RETRY_AFTER_SKEW}
+     */
+    private long nextStart(final long current, final long timestamp) {
+        final long lastTimestamp = current >>> sequenceBits;
+        if (timestamp > lastTimestamp) {
+            checkTimestamp(timestamp);
+            // 不同毫秒内，序列号置为 1 - 3 随机数
+            return (timestamp << sequenceBits) | (ThreadLocalRandom.current().nextLong(1, 3) & sequenceMask);
+        }
+
+        //闰秒。借用未来时间产生的领先不视为回拨，超出借用范围的部分才计为回拨
+        final long backward = lastTimestamp - timestamp;
+        if (backward > 0 && !isBorrowed(backward)) {
+            final long skew = SequenceExhaustPolicyEnum.BORROW_FUTURE == sequenceExhaustPolicy
+                    ? backward - maxBorrowMills : backward;
+            if (skew > maxBackwardMills
+                    || ClockSkewPolicyEnum.THROW == clockSkewPolicy) {
+                // 抛出异常直接结束本次生成，只会计数一次
+                skewCount.incrementAndGet();
+                throw new RuntimeException(String.format("Clock moved backwards.  Refusing to generate id for %d milliseconds", backward));
+            }
+            if (ClockSkewPolicyEnum.WAIT == clockSkewPolicy) {
+                tilNextMillis(lastTimestamp + epoch - 1);
+                return RETRY_AFTER_SKEW;
+            }
+        }
+
+        // 相同毫秒内，序列号自增
+        if ((current & sequenceMask) == sequenceMask) {
+            // 同一毫秒的序列数已经达到最大
+            if (isBorrowed(backward + 1)) {
+                checkTimestamp(lastTimestamp + 1);
+                return (lastTimestamp + 1) << sequenceBits;
+            }
+            tilNextMillis(lastTimestamp + epoch);
+            return RETRY;
+        }
+        return current + 1;
+    }
+
+    /**
+     * 校验时间戳没有超出位分布可以表示的范围
+     *
+     * 1. 超出后左移会溢出到符号位或者回绕，生成的 ID 不再递增甚至重复，所以直接拒绝生成。
+     * 2. 时间戳位数较少的自定义分布可能在几个月内用尽，比如 5 + 10 + 14 位只剩 34 位，约 198 天。
+     *
+     * @param timestamp 新的相对时间戳
+     */
+    private void checkTimestamp(final long timestamp) {
+        if (timestamp > maxTimestamp) {
+            throw new RuntimeException(String.format("Timestamp %d is out of range of layout %s", timestamp, layout));
+        }
+    }
+
+    /**
+     * 领先的毫秒数是否在借用范围内
+     * @param ahead 状态字领先时钟的毫秒数
+     * @return 是否
+     */
+    private boolean isBorrowed(final long ahead) {
+        return SequenceExhaustPolicyEnum.BORROW_FUTURE == sequenceExhaustPolicy
+                && ahead <= maxBorrowMills;
+    }
+
+    /**
+     * 统计时钟回拨
+     *
+     * 1. 只在 CAS 成功后调用，CAS 失败重试不会重复计数，每次生成或者预留最多计一次。
+     *
+     * @param skewWaited 是否因时钟回拨等待过
+     * @param current 原来的状态字
+     * @param timestamp 当前相对时间戳
+     */
+    private void statSkew(final boolean skewWaited, final long current, final long timestamp) {
+        final long backward = (current >>> sequenceBits) - timestamp;
+        if (skewWaited
+                || (backward > 0 && !isBorrowed(backward))) {
+            skewCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 统计借用的毫秒
+     * @param current 原来的状态字
+     * @param next 更新后的状态字
+     * @param timestamp 当前相对时间戳
+     */
+    private void statBorrow(final long current, final long next, final long timestamp) {
+        final long nextTimestamp = next >>> sequenceBits;
+        if (nextTimestamp > timestamp
+                && nextTimestamp != (current >>> sequenceBits)) {
+            borrowCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 预留当前毫秒内一段连续的序列号，并将对应的 ID 填充到数组中
+     *
+     * 1. 整段区间只需要一次 CAS，适合批量导入等高吞吐场景。
+     * 2. 单次最多预留到当前毫秒序列号用尽为止，所以实际数量可能小于 count。
+     *
+     * @param dst 目标数组
+     * @param offset 开始下标
+     * @param count 期望数量
+     * @return 实际预留的数量，至少为 1
+     * @since 0.1.13
+     */
+    public int reserve(final long[] dst, final int offset, final int count) {
+        ArgUtil.notNull(dst, "dst");
+        ArgUtil.positive(count, "count");
+        ArgUtil.assertTrue(offset >= 0 && offset + count <= dst.length, "offset + count <= dst.length");
+
+        boolean skewWaited = false;
+        while (true) {
+            final long current = state.get();
+            final long timestamp = timeGen() - epoch;
+            final long start = nextStart(current, timestamp);
+            if (start < 0) {
+                skewWaited |= start == RETRY_AFTER_SKEW;
+                continue;
+            }
+
+            final int granted = (int) Math.min(count, sequenceMask - (start & sequenceMask) + 1);
+            final long next = start + granted - 1;
+            if (state.compareAndSet(current, next)) {
+                statSkew(skewWaited, current, timestamp);
+                statBorrow(current, start, timestamp);
+                for (int i = 0; i < granted; i++) {
+                    dst[offset + i] = toId(start + i);
+                }
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * 将状态字转换为最终的 ID
+     * @param stateWord 状态字
+     * @return ID
+     */
+    private long toId(final long stateWord) {
+        return layout.compose(stateWord >>> sequenceBits, workerPart, stateWord & sequenceMask);
+    }
+
+    /**
+     * 等待直到下一个毫秒
+     * 1. 时钟超过 {@link #MAX_STALL_NANOS} 没有变化时视为已经停止（比如缓存时钟被关闭），直接抛出异常，不再无限自旋
+     * @param lastTimestamp 等待直到下一个毫秒
+     * @return 等待直到下一个毫秒
+     */
+    protected long tilNextMillis(long lastTimestamp) {
+        spinCount.incrementAndGet();
+        long timestamp = timeGen();
+        long changedNanos = System.nanoTime();
+        while (timestamp <= lastTimestamp) {
+            final long next = timeGen();
+            if (next != timestamp) {
+                timestamp = next;
+                changedNanos = System.nanoTime();
+            } else if (System.nanoTime() - changedNanos > MAX_STALL_NANOS) {
+                throw new RuntimeException(String.format("Clock stopped at %d, refusing to wait for %d", timestamp, lastTimestamp));
+            }
+        }
+        return timestamp;
+    }
+
+    /**
+     * 生成时间
+     * @return 时间
+     */
+    protected long timeGen() {
+        return clock.currentTimeMillis();
+    }
+
+    /**
+     * 位分布，可以用于解码
+     * @return 位分布
+     * @since 0.1.13
+     */
+    public SnowFlakeLayout layout() {
+        return layout;
+    }
+
+    /**
+     * 自旋等待的次数
+     * @return 次数
+     * @since 0.1.13
+     */
+    public long spinCount() {
+        return spinCount.get();
+    }
+
+    /**
+     * 观测到时钟回拨的次数
+     * 1. 每次生成或者预留最多计一次，包括因回拨抛出异常的情况
+     * @return 次数
+     * @since 0.1.13
+     */
+    public long skewCount() {
+        return skewCount.get();
+    }
+
+    /**
+     * 借用未来毫秒的次数
+     * @return 次数
+     * @since 0.1.13
+     */
+    public long borrowCount() {
+        return borrowCount.get();
+    }
+
+    @Override
+    public String genId() {
+        return String.valueOf(this.nextId());
+    }
+
+    @Override
+    public long nextLong() {
+        return this.nextId();
+    }
+
+    @Override
+    public void nextLongs(long[] dst) {
+        int filled = 0;
+        while (filled < dst.length) {
+            filled += this.reserve(dst, filled, dst.length - filled);
+        }
+    }
+
+}
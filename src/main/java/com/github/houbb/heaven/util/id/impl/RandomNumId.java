@@ -3,9 +3,9 @@ package com.github.houbb.heaven.util.id.impl;
 import com.github.houbb.heaven.annotation.ThreadSafe;
 import com.github.houbb.heaven.util.id.Id;
 import com.github.houbb.heaven.util.util.DateUtil;
-import com.github.houbb.heaven.util.util.RandomUtil;
 
 import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 基于随机数生成的随机数字标识
@@ -19,6 +19,8 @@ import java.util.Date;
  * 优点：便于阅读，生成方便。
  * 缺点：重复的概率和后续随机的长度有关，有时候可能会过长。
  *
+ * 实现：格式化后的秒级前缀 yyMMddHHmmss 全局缓存，每秒只格式化一次；毫秒和随机数字直接写入线程内预分配的字符数组。
+ *
  * @author binbin.hou
  * @since 0.1.12
  * @see com.github.houbb.heaven.util.util.DateUtil#TIMESTAMP_FORMAT_15 15 位时间戳
@@ -26,11 +28,103 @@ import java.util.Date;
 @ThreadSafe
 public class RandomNumId implements Id {
 
+    /**
+     * 秒级时间戳格式化
+     * 1. 即 {@link DateUtil#TIMESTAMP_FORMAT_15} 去掉毫秒部分
+     */
+    private static final String SECOND_FORMAT = "yyMMddHHmmss";
+
+    /**
+     * 秒级前缀长度
+     */
+    private static final int SECOND_LENGTH = 12;
+
+    /**
+     * 时间戳长度
+     */
+    private static final int TIMESTAMP_LENGTH = 15;
+
+    /**
+     * 随机数字长度
+     */
+    private static final int RANDOM_LENGTH = 10;
+
+    /**
+     * 随机数字的上界 10^10
+     */
+    private static final long RANDOM_BOUND = 10000000000L;
+
+    /**
+     * 最近一次格式化的秒级前缀
+     * 1. 不可变对象，整体替换，多线程竞争时最多重复格式化
+     */
+    private static volatile SecondPrefix secondPrefix = new SecondPrefix(Long.MIN_VALUE, new char[SECOND_LENGTH]);
+
+    /**
+     * 线程内的字符缓冲区
+     */
+    private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[TIMESTAMP_LENGTH + RANDOM_LENGTH];
+        }
+    };
+
     @Override
     public String genId() {
-        final int randomLength = 10;
-        final String timestamp = DateUtil.getDateFormat(new Date(), DateUtil.TIMESTAMP_FORMAT_15);
-        return timestamp+ RandomUtil.randomNumber(randomLength);
+        final long now = System.currentTimeMillis();
+        final long second = now / 1000;
+
+        SecondPrefix prefix = secondPrefix;
+        if (prefix.second != second) {
+            final String formatted = DateUtil.getDateFormat(new Date(second * 1000), SECOND_FORMAT);
+            prefix = new SecondPrefix(second, formatted.toCharArray());
+            secondPrefix = prefix;
+        }
+
+        final char[] chars = BUFFER.get();
+        System.arraycopy(prefix.chars, 0, chars, 0, SECOND_LENGTH);
+        writeDigits(now % 1000, chars, SECOND_LENGTH, TIMESTAMP_LENGTH - SECOND_LENGTH);
+        writeDigits(ThreadLocalRandom.current().nextLong(RANDOM_BOUND), chars, TIMESTAMP_LENGTH, RANDOM_LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * 将数字写入字符数组，不足位数时左补 0
+     * @param value 数字
+     * @param chars 字符数组
+     * @param offset 开始下标
+     * @param length 位数
+     * @since 0.1.13
+     */
+    private static void writeDigits(long value, final char[] chars, final int offset, final int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+    }
+
+    /**
+     * 秒级前缀缓存
+     * @since 0.1.13
+     */
+    private static final class SecondPrefix {
+
+        /**
+         * 秒
+         */
+        private final long second;
+
+        /**
+         * 格式化结果
+         */
+        private final char[] chars;
+
+        private SecondPrefix(long second, char[] chars) {
+            this.second = second;
+            this.chars = chars;
+        }
+
     }
 
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.Id;
+import com.github.houbb.heaven.util.id.LongId;
+import com.github.houbb.heaven.util.id.support.RangeStore;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> 号段模式 </p>
+ *
+ * 每次从 {@link RangeStore} 申请一段连续的标识，在内存中依次分配，号段用尽后再次申请。
+ *
+ * （1）双缓冲：当前号段消耗超过 10% 时，在后台线程中预先申请下一个号段，用尽时直接切换，生成标识不会等待存储。
+ *
+ * （2）无锁：号段内的分配只是一次原子自增，只有切换号段时才会加锁。
+ *
+ * （3）统计：记录申请号段的次数和耗时，以及号段用尽时下一个号段还没有准备好，导致生成标识等待的次数。
+ * 等待次数持续增长时，说明号段长度过小或者存储过慢。
+ *
+ * 注意：同一个 key 下的标识全局唯一，但是多个实例之间只保证号段内有序。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class SegmentId implements Id, LongId {
+
+    /**
+     * 默认号段长度
+     */
+    private static final long DEFAULT_STEP = 1000L;
+
+    /**
+     * 剩余数量低于号段长度的该比例时，开始预先申请下一个号段
+     */
+    private static final double PRELOAD_RATIO = 0.9;
+
+    /**
+     * 号段存储
+     */
+    private final RangeStore store;
+
+    /**
+     * 业务标识
+     */
+    private final String key;
+
+    /**
+     * 号段长度
+     */
+    private final long step;
+
+    /**
+     * 开始预先申请的剩余数量
+     */
+    private final long preloadThreshold;
+
+    /**
+     * 执行预先申请的线程池
+     */
+    private final Executor executor;
+
+    /**
+     * 当前号段
+     * 1. 初始为空号段，第一次生成时同步申请
+     */
+    private volatile Segment current = new Segment(0L, 0L);
+
+    /**
+     * 下一个号段
+     * 1. 只在持有 this 锁时修改
+     */
+    private volatile FutureTask<Segment> next;
+
+    /**
+     * 申请号段的次数
+     */
+    private final AtomicLong refillCount = new AtomicLong(0L);
+
+    /**
+     * 申请号段的总耗时（纳秒）
+     */
+    private final AtomicLong refillNanos = new AtomicLong(0L);
+
+    /**
+     * 申请号段的最大耗时（纳秒）
+     */
+    private final AtomicLong maxRefillNanos = new AtomicLong(0L);
+
+    /**
+     * 号段用尽时等待下一个号段的次数
+     */
+    private final AtomicLong stallCount = new AtomicLong(0L);
+
+    /**
+     * 静态内部类实现默认线程池单例
+     */
+    private static class ExecutorHolder {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "heaven-segment-loader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * @param store 号段存储
+     * @param key 业务标识
+     */
+    public SegmentId(RangeStore store, String key) {
+        this(store, key, DEFAULT_STEP);
+    }
+
+    /**
+     * @param store 号段存储
+     * @param key 业务标识
+     * @param step 号段长度
+     */
+    public SegmentId(RangeStore store, String key, long step) {
+        this(store, key, step, ExecutorHolder.INSTANCE);
+    }
+
+    /**
+     * @param store 号段存储
+     * @param key 业务标识
+     * @param step 号段长度
+     * @param executor 执行预先申请的线程池
+     */
+    public SegmentId(RangeStore store, String key, long step, Executor executor) {
+        ArgUtil.notNull(store, "store");
+        ArgUtil.notEmpty(key, "key");
+        ArgUtil.positive(step, "step");
+        ArgUtil.notNull(executor, "executor");
+
+        this.store = store;
+        this.key = key;
+        this.step = step;
+        this.preloadThreshold = (long) (step * PRELOAD_RATIO);
+        this.executor = executor;
+    }
+
+    @Override
+    public String genId() {
+        return String.valueOf(this.nextLong());
+    }
+
+    @Override
+    public long nextLong() {
+        while (true) {
+            final Segment segment = current;
+            final long value = segment.value.getAndIncrement();
+            if (value < segment.max) {
+                if (next == null
+                        && segment.max - value < preloadThreshold) {
+                    preload(segment);
+                }
+                return value;
+            }
+
+            switchSegment(segment);
+        }
+    }
+
+    @Override
+    public void nextLongs(long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = this.nextLong();
+        }
+    }
+
+    /**
+     * 后台预先申请下一个号段
+     * @param segment 触发预先申请的号段
+     */
+    private synchronized void preload(final Segment segment) {
+        if (next != null
+                || current != segment) {
+            return;
+        }
+
+        final FutureTask<Segment> task = newLoadTask();
+        next = task;
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 线程池不可用时，在当前线程中申请
+            task.run();
+        }
+    }
+
+    /**
+     * 当前号段用尽，切换到下一个号段
+     * @param segment 已经用尽的号段
+     */
+    private synchronized void switchSegment(final Segment segment) {
+        // 其他线程已经完成切换
+        if (current != segment) {
+            return;
+        }
+
+        FutureTask<Segment> task = next;
+        final boolean ready = task != null && task.isDone();
+        if (!ready && segment.max > segment.min) {
+            stallCount.incrementAndGet();
+        }
+        if (task == null) {
+            task = newLoadTask();
+            task.run();
+        }
+
+        try {
+            current = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonRuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new CommonRuntimeException(e.getCause());
+        } finally {
+            // 申请失败时同样清空，下次切换重新申请
+            next = null;
+        }
+    }
+
+    /**
+     * 创建申请号段的任务
+     * @return 任务
+     */
+    private FutureTask<Segment> newLoadTask() {
+        return new FutureTask<>(new Callable<Segment>() {
+            @Override
+            public Segment call() {
+                final long start = System.nanoTime();
+                final long max = store.nextMax(key, step);
+                final long cost = System.nanoTime() - start;
+
+                refillCount.incrementAndGet();
+                refillNanos.addAndGet(cost);
+                long maxCost = maxRefillNanos.get();
+                while (cost > maxCost
+                        && !maxRefillNanos.compareAndSet(maxCost, cost)) {
+                    maxCost = maxRefillNanos.get();
+                }
+                return new Segment(max - step, max);
+            }
+        });
+    }
+
+    /**
+     * 申请号段的次数
+     * @return 次数
+     */
+    public long refillCount() {
+        return refillCount.get();
+    }
+
+    /**
+     * 申请号段的总耗时
+     * @return 纳秒
+     */
+    public long refillNanos() {
+        return refillNanos.get();
+    }
+
+    /**
+     * 申请号段的最大耗时
+     * @return 纳秒
+     */
+    public long maxRefillNanos() {
+        return maxRefillNanos.get();
+    }
+
+    /**
+     * 号段用尽时等待下一个号段的次数
+     * 1. 不包括第一次生成时的同步申请
+     * @return 次数
+     */
+    public long stallCount() {
+        return stallCount.get();
+    }
+
+    /**
+     * 号段
+     */
+    private static final class Segment {
+
+        /**
+         * 最小值（包含）
+         */
+        private final long min;
+
+        /**
+         * 最大值（不包含）
+         */
+        private final long max;
+
+        /**
+         * 下一个待分配的值
+         */
+        private final AtomicLong value;
+
+        private Segment(long min, long max) {
+            this.min = min;
+            this.max = max;
+            this.value = new AtomicLong(min);
+        }
+
+    }
+
+}
@@ -6,13 +6,20 @@
 package com.github.houbb.heaven.util.id.impl;
 
 
+import com.github.houbb.heaven.support.clock.IClock;
+import com.github.houbb.heaven.support.clock.impl.SystemClock;
+import com.github.houbb.heaven.util.common.ArgUtil;
 import com.github.houbb.heaven.util.id.Id;
+import com.github.houbb.heaven.util.id.LongId;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+import com.github.houbb.heaven.util.id.support.impl.WorkerIdAssigners;
 import com.github.houbb.heaven.util.lang.StringUtil;
 
 import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p> 雪花算法  19 位 </p>
@@ -24,7 +31,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * @author houbinbin
  * @since 0.1.12
  */
-public class SnowFlakeId implements Id {
+public class SnowFlakeId implements Id, LongId {
 
     /**
      * 机器标识位数
@@ -37,6 +44,12 @@ public class SnowFlakeId implements Id {
 
     private static final long maxDatacenterId = -1L ^ (-1L << datacenterIdBits);
 
+    /**
+     * 等待下一个毫秒时，时钟最长允许停止的纳秒数
+     * @since 0.1.13
+     */
+    private static final long MAX_STALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     /**
      * worker 唯一标识
      */
@@ -55,9 +68,28 @@ public class SnowFlakeId implements Id {
      */
     private long lastTimestamp = -1L;
 
+    /**
+     * 时钟
+     * @since 0.1.13
+     */
+    private IClock clock = new SystemClock();
+
+    /**
+     * 默认构造器
+     * 1. 通过 {@link WorkerIdAssigners} 分配标识，不进行网络 I/O
+     * @since 0.1.13 不再调用 {@link #getDatacenterId(long)} 和 {@link #getMaxWorkerId(long, long)}
+     */
     public SnowFlakeId() {
-        this.datacenterId = getDatacenterId(maxDatacenterId);
-        this.workerId = getMaxWorkerId(datacenterId, maxWorkerId);
+        this(WorkerIdAssigners.worker(), WorkerIdAssigners.datacenter());
+    }
+
+    /**
+     * @param workerIdAssigner 机器标识分配
+     * @param datacenterIdAssigner 数据中心标识分配
+     * @since 0.1.13
+     */
+    public SnowFlakeId(WorkerIdAssigner workerIdAssigner, WorkerIdAssigner datacenterIdAssigner) {
+        this(workerIdAssigner.assign(maxWorkerId), datacenterIdAssigner.assign(maxDatacenterId));
     }
 
     /**
@@ -76,6 +108,18 @@ public class SnowFlakeId implements Id {
         this.datacenterId = datacenterId;
     }
 
+    /**
+     * @param workerId     工作机器ID
+     * @param datacenterId 序列号
+     * @param clock 时钟
+     * @since 0.1.13
+     */
+    public SnowFlakeId(long workerId, long datacenterId, IClock clock) {
+        this(workerId, datacenterId);
+        ArgUtil.notNull(clock, "clock");
+        this.clock = clock;
+    }
+
     /**
      * 获取 maxWorkerId
      *
@@ -185,13 +229,21 @@ public class SnowFlakeId implements Id {
 
     /**
      * 等待直到下一个毫秒
+     * 1. 时钟超过 {@link #MAX_STALL_NANOS} 没有变化时视为已经停止（比如缓存时钟被关闭），直接抛出异常，不再无限自旋
      * @param lastTimestamp 等待直到下一个毫秒
      * @return 等待直到下一个毫秒
      */
     protected long tilNextMillis(long lastTimestamp) {
         long timestamp = timeGen();
+        long changedNanos = System.nanoTime();
         while (timestamp <= lastTimestamp) {
-            timestamp = timeGen();
+            final long next = timeGen();
+            if (next != timestamp) {
+                timestamp = next;
+                changedNanos = System.nanoTime();
+            } else if (System.nanoTime() - changedNanos > MAX_STALL_NANOS) {
+                throw new RuntimeException(String.format("Clock stopped at %d, refusing to wait for %d", timestamp, lastTimestamp));
+            }
         }
         return timestamp;
     }
@@ -201,7 +253,7 @@ public class SnowFlakeId implements Id {
      * @return 时间
      */
     protected long timeGen() {
-        return System.currentTimeMillis();
+        return clock.currentTimeMillis();
     }
 
     @Override
@@ -209,4 +261,27 @@ public class SnowFlakeId implements Id {
         return String.valueOf(this.nextId());
     }
 
+    /**
+     * 获取下一个ID
+     * @return next id
+     * @since 0.1.13
+     */
+    @Override
+    public long nextLong() {
+        return this.nextId();
+    }
+
+    /**
+     * 批量获取ID
+     * 1. 整批只获取一次锁
+     * @param dst 目标数组
+     * @since 0.1.13
+     */
+    @Override
+    public synchronized void nextLongs(long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = this.nextId();
+        }
+    }
+
 }
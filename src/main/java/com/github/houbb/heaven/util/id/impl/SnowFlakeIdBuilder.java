@@ -0,0 +1,200 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+import com.github.houbb.heaven.constant.enums.ClockSkewPolicyEnum;
+import com.github.houbb.heaven.constant.enums.SequenceExhaustPolicyEnum;
+import com.github.houbb.heaven.support.builder.IBuilder;
+import com.github.houbb.heaven.support.clock.IClock;
+import com.github.houbb.heaven.support.clock.impl.SystemClock;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+import com.github.houbb.heaven.util.id.support.impl.WorkerIdAssigners;
+
+/**
+ * <p> 无锁雪花算法构建者 </p>
+ *
+ * 默认值：
+ * （1）机器标识、数据中心标识：未指定时通过 {@link WorkerIdAssigners} 分配，不进行网络 I/O
+ * （2）时钟：{@link SystemClock}，位分布：{@link SnowFlakeLayout#DEFAULT}
+ * （3）时钟回拨：{@link ClockSkewPolicyEnum#BORROW}，最多容忍 5 毫秒
+ * （4）序列号耗尽：{@link SequenceExhaustPolicyEnum#SPIN}，借用时最多借用 5 毫秒
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see LockFreeSnowFlakeId 无锁雪花算法
+ */
+@NotThreadSafe
+public class SnowFlakeIdBuilder implements IBuilder<LockFreeSnowFlakeId> {
+
+    /**
+     * 工作机器ID
+     */
+    private Long workerId;
+
+    /**
+     * 数据中心ID
+     */
+    private Long datacenterId;
+
+    /**
+     * 机器标识分配，未指定 {@link #workerId} 时使用
+     */
+    private WorkerIdAssigner workerIdAssigner = WorkerIdAssigners.worker();
+
+    /**
+     * 数据中心标识分配，未指定 {@link #datacenterId} 时使用
+     */
+    private WorkerIdAssigner datacenterIdAssigner = WorkerIdAssigners.datacenter();
+
+    /**
+     * 位分布
+     */
+    private SnowFlakeLayout layout = SnowFlakeLayout.DEFAULT;
+
+    /**
+     * 时钟
+     */
+    private IClock clock = new SystemClock();
+
+    /**
+     * 时钟回拨处理策略
+     */
+    private ClockSkewPolicyEnum clockSkewPolicy = ClockSkewPolicyEnum.BORROW;
+
+    /**
+     * 允许容忍的最大时钟回拨毫秒数
+     */
+    private long maxBackwardMills = 5L;
+
+    /**
+     * 序列号耗尽处理策略
+     */
+    private SequenceExhaustPolicyEnum sequenceExhaustPolicy = SequenceExhaustPolicyEnum.SPIN;
+
+    /**
+     * 允许借用的最大未来毫秒数
+     */
+    private long maxBorrowMills = 5L;
+
+    public Long workerId() {
+        return workerId;
+    }
+
+    public SnowFlakeIdBuilder workerId(long workerId) {
+        this.workerId = workerId;
+        return this;
+    }
+
+    public Long datacenterId() {
+        return datacenterId;
+    }
+
+    public SnowFlakeIdBuilder datacenterId(long datacenterId) {
+        this.datacenterId = datacenterId;
+        return this;
+    }
+
+    public WorkerIdAssigner workerIdAssigner() {
+        return workerIdAssigner;
+    }
+
+    public SnowFlakeIdBuilder workerIdAssigner(WorkerIdAssigner workerIdAssigner) {
+        ArgUtil.notNull(workerIdAssigner, "workerIdAssigner");
+        this.workerIdAssigner = workerIdAssigner;
+        return this;
+    }
+
+    public WorkerIdAssigner datacenterIdAssigner() {
+        return datacenterIdAssigner;
+    }
+
+    public SnowFlakeIdBuilder datacenterIdAssigner(WorkerIdAssigner datacenterIdAssigner) {
+        ArgUtil.notNull(datacenterIdAssigner, "datacenterIdAssigner");
+        this.datacenterIdAssigner = datacenterIdAssigner;
+        return this;
+    }
+
+    public SnowFlakeLayout layout() {
+        return layout;
+    }
+
+    public SnowFlakeIdBuilder layout(SnowFlakeLayout layout) {
+        ArgUtil.notNull(layout, "layout");
+        this.layout = layout;
+        return this;
+    }
+
+    /**
+     * 指定位分布
+     * @param datacenterIdBits 数据中心位数
+     * @param workerIdBits 机器位数
+     * @param sequenceBits 序列号位数
+     * @param epoch 时间起始标记点
+     * @return this
+     */
+    public SnowFlakeIdBuilder layout(int datacenterIdBits, int workerIdBits, int sequenceBits, long epoch) {
+        this.layout = new SnowFlakeLayout(datacenterIdBits, workerIdBits, sequenceBits, epoch);
+        return this;
+    }
+
+    public IClock clock() {
+        return clock;
+    }
+
+    public SnowFlakeIdBuilder clock(IClock clock) {
+        ArgUtil.notNull(clock, "clock");
+        this.clock = clock;
+        return this;
+    }
+
+    public ClockSkewPolicyEnum clockSkewPolicy() {
+        return clockSkewPolicy;
+    }
+
+    public SnowFlakeIdBuilder clockSkewPolicy(ClockSkewPolicyEnum clockSkewPolicy) {
+        ArgUtil.notNull(clockSkewPolicy, "clockSkewPolicy");
+        this.clockSkewPolicy = clockSkewPolicy;
+        return this;
+    }
+
+    public long maxBackwardMills() {
+        return maxBackwardMills;
+    }
+
+    public SnowFlakeIdBuilder maxBackwardMills(long maxBackwardMills) {
+        ArgUtil.notNegative(maxBackwardMills, "maxBackwardMills");
+        this.maxBackwardMills = maxBackwardMills;
+        return this;
+    }
+
+    public SequenceExhaustPolicyEnum sequenceExhaustPolicy() {
+        return sequenceExhaustPolicy;
+    }
+
+    public SnowFlakeIdBuilder sequenceExhaustPolicy(SequenceExhaustPolicyEnum sequenceExhaustPolicy) {
+        ArgUtil.notNull(sequenceExhaustPolicy, "sequenceExhaustPolicy");
+        this.sequenceExhaustPolicy = sequenceExhaustPolicy;
+        return this;
+    }
+
+    public long maxBorrowMills() {
+        return maxBorrowMills;
+    }
+
+    public SnowFlakeIdBuilder maxBorrowMills(long maxBorrowMills) {
+        ArgUtil.notNegative(maxBorrowMills, "maxBorrowMills");
+        this.maxBorrowMills = maxBorrowMills;
+        return this;
+    }
+
+    @Override
+    public LockFreeSnowFlakeId build() {
+        return new LockFreeSnowFlakeId(this);
+    }
+
+}
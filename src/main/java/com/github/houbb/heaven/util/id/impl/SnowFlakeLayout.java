@@ -0,0 +1,199 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.annotation.Immutable;
+import com.github.houbb.heaven.util.common.ArgUtil;
+
+/**
+ * <p> 雪花算法位分布 </p>
+ *
+ * 从高到低：1 位符号位 + 时间戳 + 数据中心 + 机器 + 序列号，时间戳位数为剩余的位数。
+ *
+ * 同时作为解码器，直接通过位运算从 ID 中提取各部分，不创建任何对象。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@Immutable
+public final class SnowFlakeLayout {
+
+    /**
+     * 默认分布：41 位时间戳 + 5 位数据中心 + 5 位机器 + 12 位序列号
+     * 1. 和 {@link SnowFlakeId} 保持一致
+     */
+    public static final SnowFlakeLayout DEFAULT = new SnowFlakeLayout(5, 5, 12, 1288834974657L);
+
+    /**
+     * 可用的总位数，最高位为符号位
+     */
+    private static final int TOTAL_BITS = 63;
+
+    private final int datacenterIdBits;
+
+    private final int workerIdBits;
+
+    private final int sequenceBits;
+
+    private final int timestampBits;
+
+    /**
+     * 时间起始标记点
+     */
+    private final long epoch;
+
+    private final long maxDatacenterId;
+
+    private final long maxWorkerId;
+
+    private final long maxSequence;
+
+    private final long maxTimestamp;
+
+    private final int workerIdShift;
+
+    private final int datacenterIdShift;
+
+    private final int timestampShift;
+
+    /**
+     * @param datacenterIdBits 数据中心位数
+     * @param workerIdBits 机器位数
+     * @param sequenceBits 序列号位数
+     * @param epoch 时间起始标记点
+     */
+    public SnowFlakeLayout(final int datacenterIdBits,
+                           final int workerIdBits,
+                           final int sequenceBits,
+                           final long epoch) {
+        ArgUtil.notNegative(datacenterIdBits, "datacenterIdBits");
+        ArgUtil.notNegative(workerIdBits, "workerIdBits");
+        ArgUtil.positive(sequenceBits, "sequenceBits");
+        ArgUtil.notNegative(epoch, "epoch");
+        final int usedBits = datacenterIdBits + workerIdBits + sequenceBits;
+        ArgUtil.assertTrue(usedBits < TOTAL_BITS, "datacenterIdBits + workerIdBits + sequenceBits < " + TOTAL_BITS);
+
+        this.datacenterIdBits = datacenterIdBits;
+        this.workerIdBits = workerIdBits;
+        this.sequenceBits = sequenceBits;
+        this.timestampBits = TOTAL_BITS - usedBits;
+        this.epoch = epoch;
+
+        this.maxDatacenterId = -1L ^ (-1L << datacenterIdBits);
+        this.maxWorkerId = -1L ^ (-1L << workerIdBits);
+        this.maxSequence = -1L ^ (-1L << sequenceBits);
+        this.maxTimestamp = -1L ^ (-1L << timestampBits);
+
+        this.workerIdShift = sequenceBits;
+        this.datacenterIdShift = sequenceBits + workerIdBits;
+        this.timestampShift = usedBits;
+    }
+
+    /**
+     * 组装 ID
+     * @param timestamp 相对 {@link #epoch()} 的时间戳
+     * @param workerPart 数据中心 + 机器部分，参见 {@link #workerPart(long, long)}
+     * @param sequence 序列号
+     * @return ID
+     */
+    public long compose(final long timestamp, final long workerPart, final long sequence) {
+        return (timestamp << timestampShift) | workerPart | sequence;
+    }
+
+    /**
+     * 数据中心 + 机器部分
+     * @param workerId 机器标识
+     * @param datacenterId 数据中心标识
+     * @return 结果
+     */
+    public long workerPart(final long workerId, final long datacenterId) {
+        return (datacenterId << datacenterIdShift) | (workerId << workerIdShift);
+    }
+
+    /**
+     * 解码：生成 ID 时的毫秒时间
+     * @param id ID
+     * @return 毫秒时间
+     */
+    public long timestampMillis(final long id) {
+        return (id >>> timestampShift) + epoch;
+    }
+
+    /**
+     * 解码：数据中心标识
+     * @param id ID
+     * @return 数据中心标识
+     */
+    public long datacenterId(final long id) {
+        return (id >>> datacenterIdShift) & maxDatacenterId;
+    }
+
+    /**
+     * 解码：机器标识
+     * @param id ID
+     * @return 机器标识
+     */
+    public long workerId(final long id) {
+        return (id >>> workerIdShift) & maxWorkerId;
+    }
+
+    /**
+     * 解码：序列号
+     * @param id ID
+     * @return 序列号
+     */
+    public long sequence(final long id) {
+        return id & maxSequence;
+    }
+
+    public int datacenterIdBits() {
+        return datacenterIdBits;
+    }
+
+    public int workerIdBits() {
+        return workerIdBits;
+    }
+
+    public int sequenceBits() {
+        return sequenceBits;
+    }
+
+    public int timestampBits() {
+        return timestampBits;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long maxDatacenterId() {
+        return maxDatacenterId;
+    }
+
+    public long maxWorkerId() {
+        return maxWorkerId;
+    }
+
+    public long maxSequence() {
+        return maxSequence;
+    }
+
+    public long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "SnowFlakeLayout{" +
+                "datacenterIdBits=" + datacenterIdBits +
+                ", workerIdBits=" + workerIdBits +
+                ", sequenceBits=" + sequenceBits +
+                ", timestampBits=" + timestampBits +
+                ", epoch=" + epoch +
+                '}';
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.github.houbb.heaven.util.id.impl;
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.constant.PunctuationConst;
 import com.github.houbb.heaven.util.id.Id;
 
 import java.util.UUID;
@@ -9,16 +8,40 @@ import java.util.UUID;
 /**
  * UUID 返回
  * 默认和 uuid 保持一致，使用 32 位的 uuid
+ *
+ * 直接将 uuid 的高低两个 long 写入字符数组，不再使用正则替换 "-"。
  * @author binbin.hou
  * @since 0.1.12
  */
 @ThreadSafe
 public class UUID32 implements Id {
 
+    /**
+     * 16 进制符号
+     */
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
     @Override
     public String genId() {
-        return UUID.randomUUID().toString()
-                .replaceAll(PunctuationConst.MIDDLE_LINE, PunctuationConst.EMPTY);
+        final UUID uuid = UUID.randomUUID();
+        final char[] chars = new char[32];
+        writeHex(uuid.getMostSignificantBits(), chars, 0);
+        writeHex(uuid.getLeastSignificantBits(), chars, 16);
+        return new String(chars);
+    }
+
+    /**
+     * 将 long 以 16 进制写入字符数组
+     * @param value 值
+     * @param chars 字符数组
+     * @param offset 开始下标，写入 16 个字符
+     * @since 0.1.13
+     */
+    private static void writeHex(long value, final char[] chars, final int offset) {
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = HEX_CHARS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
     }
 
     public static void main(String[] args) {
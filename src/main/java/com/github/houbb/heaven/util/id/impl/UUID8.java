@@ -1,10 +1,9 @@
 package com.github.houbb.heaven.util.id.impl;
 
 import com.github.houbb.heaven.annotation.ThreadSafe;
-import com.github.houbb.heaven.util.guava.Guavas;
 import com.github.houbb.heaven.util.id.Id;
 
-import java.util.List;
+import java.util.UUID;
 
 /**
  * 在数据量较多的时候，
@@ -44,6 +43,10 @@ import java.util.List;
  *
  * 可以用来生成一个 8 位的 token，而不是用来做唯一标识
  *
+ * （5）实现
+ *
+ * 每一组 4 位 16 进制即 uuid 中的 16 bit，直接从高低两个 long 中按位截取，不再经过字符串切分和解析。
+ *
  * @author binbin.hou
  * @since 0.1.12
  */
@@ -57,28 +60,17 @@ public class UUID8 implements Id {
 
     @Override
     public String genId() {
-        final List<String> uuidUnits = uuidUnits();
-        StringBuilder stringBuilder = new StringBuilder();
-        for (String unit : uuidUnits) {
-            int x = Integer.parseInt(unit, 16);
-            stringBuilder.append(CHARS[x % 62]);
-        }
-        return stringBuilder.toString();
-    }
-
-    /**
-     * 获取 uuid 分段后的内容
-     * @return 分段后的内容
-     */
-    private List<String> uuidUnits() {
-        final String uuid32 = new UUID32().genId();
-        final int size = 8;
+        final UUID uuid = UUID.randomUUID();
+        final long most = uuid.getMostSignificantBits();
+        final long least = uuid.getLeastSignificantBits();
 
-        List<String> units = Guavas.newArrayList(size);
-        for(int i = 0; i < size; i++) {
-            units.add(uuid32.substring(i * 4, i * 4 + 4));
+        final char[] chars = new char[8];
+        for (int i = 0; i < 4; i++) {
+            final int shift = 48 - i * 16;
+            chars[i] = CHARS[(int) ((most >>> shift) & 0xFFFF) % 62];
+            chars[i + 4] = CHARS[(int) ((least >>> shift) & 0xFFFF) % 62];
         }
-        return units;
+        return new String(chars);
     }
 
 }
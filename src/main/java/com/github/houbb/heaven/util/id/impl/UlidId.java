@@ -0,0 +1,204 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.support.clock.IClock;
+import com.github.houbb.heaven.support.clock.impl.SystemClock;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.Id;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p> 按时间有序的 128 位标识（ULID 风格） </p>
+ *
+ * 组成方式：48 位毫秒时间戳 + 80 位随机数
+ *
+ * （1）有序：字符串形式为 26 位 Crockford base32，二进制形式为 16 字节大端，两者按字典序排序即按生成顺序排序。
+ * 数据库索引按顺序追加，不会像 {@link UUID32} 一样随机分散。
+ *
+ * （2）单调：同一毫秒内（或者时钟回拨时）在上一个标识的基础上加 1，跨线程全局单调递增。
+ *
+ * （3）无锁：128 位状态保存在不可变对象中，通过 CAS 替换。
+ *
+ * 注意：随机数基于 {@link ThreadLocalRandom}，不适合用作安全令牌。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class UlidId implements Id {
+
+    /**
+     * Crockford base32 符号，去掉了 I L O U
+     */
+    private static final char[] CHARS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /**
+     * 字符串长度
+     */
+    private static final int LENGTH = 26;
+
+    /**
+     * 时间戳在字符串中占用的长度
+     */
+    private static final int TIMESTAMP_LENGTH = 10;
+
+    /**
+     * 高位中随机数所占的位数
+     */
+    private static final int HIGH_RANDOM_BITS = 16;
+
+    /**
+     * 时钟
+     */
+    private final IClock clock;
+
+    /**
+     * 上一次生成的标识
+     */
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0L, 0L));
+
+    public UlidId() {
+        this(new SystemClock());
+    }
+
+    /**
+     * @param clock 时钟
+     */
+    public UlidId(IClock clock) {
+        ArgUtil.notNull(clock, "clock");
+        this.clock = clock;
+    }
+
+    @Override
+    public String genId() {
+        final State next = this.next();
+        return encode(next.high, next.low);
+    }
+
+    /**
+     * 生成二进制形式的标识
+     * @return 16 字节大端
+     */
+    public byte[] nextBytes() {
+        final State next = this.next();
+        final byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (next.high >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (next.low >>> (56 - i * 8));
+        }
+        return bytes;
+    }
+
+    /**
+     * 获取下一个状态
+     * @return 状态
+     */
+    private State next() {
+        while (true) {
+            final State current = state.get();
+            final long timestamp = clock.currentTimeMillis();
+
+            final State next;
+            if (timestamp > current.timestamp()) {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final long high = (timestamp << HIGH_RANDOM_BITS) | (random.nextInt() & 0xFFFF);
+                next = new State(high, random.nextLong());
+            } else {
+                // 80 位随机部分加 1，溢出时自然进位到时间戳，相当于借用下一毫秒
+                final long low = current.low + 1;
+                final long high = low == 0 ? current.high + 1 : current.high;
+                next = new State(high, low);
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 编码为 Crockford base32
+     * @param high 高 64 位
+     * @param low 低 64 位
+     * @return 26 位字符串
+     */
+    public static String encode(final long high, final long low) {
+        final char[] chars = new char[LENGTH];
+        // 128 位前补 2 个 0 凑成 130 位，每个字符 5 位
+        for (int i = 0; i < LENGTH; i++) {
+            final int shift = (LENGTH - 1 - i) * 5;
+            final long bits;
+            if (shift >= 64) {
+                bits = high >>> (shift - 64);
+            } else if (shift > 59) {
+                bits = (low >>> shift) | (high << (64 - shift));
+            } else {
+                bits = low >>> shift;
+            }
+            chars[i] = CHARS[(int) (bits & 0x1F)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 解码标识中的毫秒时间戳
+     * @param id 字符串形式的标识
+     * @return 毫秒时间戳
+     */
+    public static long timestampMillis(final String id) {
+        ArgUtil.assertTrue(id != null && id.length() == LENGTH, "id.length == " + LENGTH);
+
+        long timestamp = 0;
+        for (int i = 0; i < TIMESTAMP_LENGTH; i++) {
+            timestamp = (timestamp << 5) | decodeChar(id.charAt(i));
+        }
+        // 前 10 个字符共 50 位，即补齐的 2 个 0 + 48 位时间戳
+        return timestamp;
+    }
+
+    /**
+     * 解码单个字符
+     * @param c 字符
+     * @return 5 位的值
+     */
+    private static int decodeChar(final char c) {
+        final char upper = Character.toUpperCase(c);
+        for (int i = 0; i < CHARS.length; i++) {
+            if (CHARS[i] == upper) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Illegal ulid char: " + c);
+    }
+
+    /**
+     * 128 位状态
+     */
+    private static final class State {
+
+        private final long high;
+
+        private final long low;
+
+        private State(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        /**
+         * @return 毫秒时间戳
+         */
+        private long timestamp() {
+            return high >>> HIGH_RANDOM_BITS;
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.support;
+
+/**
+ * <p> 号段存储接口 </p>
+ *
+ * 1. 用于号段模式的标识生成，每次从存储中申请一段连续的标识。
+ * 2. 实现类需要保证同一个 key 下申请到的号段不重叠，包括多个进程之间。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see com.github.houbb.heaven.util.id.impl.SegmentId 号段模式
+ */
+public interface RangeStore {
+
+    /**
+     * 申请下一个号段
+     *
+     * 即将 key 对应的最大值增加 step，并返回增加后的结果。
+     * 本次申请到的号段为 [返回值 - step, 返回值)
+     *
+     * @param key 业务标识
+     * @param step 号段长度
+     * @return 增加后的最大值
+     */
+    long nextMax(final String key, final long step);
+
+}
@@ -6,6 +6,7 @@
 package com.github.houbb.heaven.util.id.support;
 
 
+import com.github.houbb.heaven.util.id.LongId;
 import com.github.houbb.heaven.util.lang.StringUtil;
 
 import java.lang.management.ManagementFactory;
@@ -23,7 +24,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * @since 0.0.1
  */
 @Deprecated
-public class Sequence {
+public class Sequence implements LongId {
 
     /**
      * 机器标识位数
@@ -173,6 +174,29 @@ public class Sequence {
                 | sequence;
     }
 
+    /**
+     * 获取下一个ID
+     * @return next id
+     * @since 0.1.13
+     */
+    @Override
+    public long nextLong() {
+        return this.nextId();
+    }
+
+    /**
+     * 批量获取ID
+     * 1. 整批只获取一次锁
+     * @param dst 目标数组
+     * @since 0.1.13
+     */
+    @Override
+    public synchronized void nextLongs(long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = this.nextId();
+        }
+    }
+
     protected long tilNextMillis(long lastTimestamp) {
         long timestamp = timeGen();
         while (timestamp <= lastTimestamp) {
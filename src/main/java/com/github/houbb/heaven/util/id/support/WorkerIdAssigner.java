@@ -0,0 +1,27 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.support;
+
+/**
+ * <p> 机器标识分配接口 </p>
+ *
+ * 1. 用于雪花算法中的机器标识、数据中心标识分配。
+ * 2. 实现类不应该在构建时进行网络 I/O，避免启动缓慢。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ * @see com.github.houbb.heaven.util.id.support.impl.WorkerIdAssigners 默认实现
+ */
+public interface WorkerIdAssigner {
+
+    /**
+     * 分配标识
+     * @param maxId 允许的最大标识（包含）
+     * @return 分配的标识，范围为 [0, maxId]；无法分配时返回 -1
+     */
+    long assign(final long maxId);
+
+}
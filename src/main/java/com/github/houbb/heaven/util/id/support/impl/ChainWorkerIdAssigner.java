@@ -0,0 +1,41 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+
+/**
+ * 责任链标识分配
+ * 1. 依次调用，返回第一个有效的结果
+ * 2. 全部无法分配时返回 -1
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class ChainWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * 分配实现列表
+     */
+    private final WorkerIdAssigner[] assigners;
+
+    /**
+     * @param assigners 分配实现列表
+     */
+    public ChainWorkerIdAssigner(WorkerIdAssigner... assigners) {
+        ArgUtil.notEmpty(assigners, "assigners");
+        this.assigners = assigners.clone();
+    }
+
+    @Override
+    public long assign(long maxId) {
+        for (WorkerIdAssigner assigner : assigners) {
+            long id = assigner.assign(maxId);
+            if (id >= 0) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 基于本地租约文件锁的标识分配
+ *
+ * 目录下每个标识对应一个文件 worker-{id}.lock，依次尝试获取文件的排他锁，第一个成功的即为分配结果。
+ *
+ * （1）同一台机器上的多个 JVM，分配到的标识不会重复。
+ * （2）每个 JVM 在同一个目录下只持有一个租约，之后的分配直接复用，创建再多的生成器也不会耗尽标识。
+ * 所以同一个 JVM 内的生成器会得到相同的标识，应该共享同一个生成器实例。
+ * （3）锁在 JVM 生命周期内一直持有，进程退出后由操作系统自动释放，不存在过期租约需要清理。
+ * （4）目录不可写时返回 -1；所有标识都被其他进程占用时直接抛出异常，不会静默退化为随机标识。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class FileLockWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * 当前 JVM 持有的文件锁
+     * 1. 保持引用，避免通道被关闭后锁失效
+     * 2. 已经持有的文件不能再次打开：关闭同一文件的任意通道都会释放进程在该文件上的锁
+     * 3. 同一个目录下已经持有的标识优先复用
+     */
+    private static final Map<Path, FileLock> HELD_LOCKS = new HashMap<>();
+
+    /**
+     * 租约文件目录
+     */
+    private final Path dir;
+
+    public FileLockWorkerIdAssigner() {
+        this(Paths.get(System.getProperty("java.io.tmpdir"), "heaven-snowflake"));
+    }
+
+    /**
+     * @param dir 租约文件目录
+     */
+    public FileLockWorkerIdAssigner(Path dir) {
+        ArgUtil.notNull(dir, "dir");
+        this.dir = dir;
+    }
+
+    @Override
+    public long assign(long maxId) {
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            return -1;
+        }
+        if (!Files.isWritable(dir)) {
+            return -1;
+        }
+
+        synchronized (HELD_LOCKS) {
+            //1. 复用当前 JVM 已经持有的租约
+            for (long id = 0; id <= maxId; id++) {
+                if (HELD_LOCKS.containsKey(lockPath(id))) {
+                    return id;
+                }
+            }
+
+            //2. 申请新的租约
+            for (long id = 0; id <= maxId; id++) {
+                if (tryLock(lockPath(id))) {
+                    return id;
+                }
+            }
+        }
+        throw new CommonRuntimeException(String.format("All worker ids [0, %d] in %s are leased by other processes", maxId, dir));
+    }
+
+    /**
+     * 标识对应的租约文件
+     * @param id 标识
+     * @return 文件路径
+     */
+    private Path lockPath(final long id) {
+        return dir.resolve("worker-" + id + ".lock").toAbsolutePath().normalize();
+    }
+
+    /**
+     * 尝试获取文件锁
+     * @param path 文件路径
+     * @return 是否成功
+     */
+    private boolean tryLock(final Path path) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                HELD_LOCKS.put(path, lock);
+                return true;
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            // 当前标识已经被占用或者不可用，继续尝试下一个
+        }
+
+        closeQuietly(channel);
+        return false;
+    }
+
+    /**
+     * 关闭通道
+     * @param channel 通道
+     */
+    private void closeQuietly(final FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.support.RangeStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于本地文件的号段存储
+ *
+ * 目录下每个业务标识对应一个文件 {key}.segment，key 中的特殊字符会被编码，参见 {@link #fileName(String)}。
+ * 文件内容为依次追加的 8 字节大端最大值，最后一条完整记录即为当前最大值。
+ *
+ * （1）追加写：每次申请只追加一条记录并强制刷盘，不会覆盖已有数据；写入一半时进程崩溃，不完整的记录在读取时被忽略。
+ * （2）多进程：读取和追加期间持有文件排他锁，同一台机器上的多个 JVM 申请到的号段不会重叠。
+ * （3）每个号段只占用 8 个字节，号段长度合理时文件增长可以忽略。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class FileRangeStore implements RangeStore {
+
+    /**
+     * 单条记录的字节数
+     */
+    private static final int RECORD_SIZE = 8;
+
+    /**
+     * 文件后缀
+     */
+    private static final String SUFFIX = ".segment";
+
+    /**
+     * JVM 内的互斥锁
+     * 1. 同一个 JVM 内对同一文件重复加锁会抛出异常，关闭任意通道也会释放进程在该文件上的锁，所以统一串行化
+     * 2. 申请号段的频率很低，全局串行化不影响性能
+     */
+    private static final Object MUTEX = new Object();
+
+    /**
+     * 号段文件目录
+     */
+    private final Path dir;
+
+    public FileRangeStore() {
+        this(Paths.get(System.getProperty("java.io.tmpdir"), "heaven-segment"));
+    }
+
+    /**
+     * @param dir 号段文件目录
+     */
+    public FileRangeStore(Path dir) {
+        ArgUtil.notNull(dir, "dir");
+        this.dir = dir;
+    }
+
+    @Override
+    public long nextMax(String key, long step) {
+        ArgUtil.notEmpty(key, "key");
+        ArgUtil.positive(step, "step");
+
+        synchronized (MUTEX) {
+            try {
+                Files.createDirectories(dir);
+                final Path path = dir.resolve(fileName(key));
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    final FileLock lock = channel.lock();
+                    try {
+                        return append(channel, step);
+                    } finally {
+                        lock.release();
+                    }
+                }
+            } catch (IOException e) {
+                throw new CommonRuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * 读取当前最大值并追加新的最大值
+     * @param channel 通道，已经持有排他锁
+     * @param step 步长
+     * @return 新的最大值
+     * @throws IOException 异常
+     */
+    private long append(final FileChannel channel, final long step) throws IOException {
+        final long size = channel.size();
+        final long validSize = size - size % RECORD_SIZE;
+        final long max = validSize == 0 ? 0L : readLong(channel, validSize - RECORD_SIZE);
+        final long nextMax = max + step;
+
+        // 从最后一条完整记录之后写入，覆盖可能存在的不完整记录
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        buffer.putLong(nextMax).flip();
+        long position = validSize;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(true);
+        return nextMax;
+    }
+
+    /**
+     * 业务标识对应的文件名称
+     *
+     * 1. 字母、数字、'.'、'-'、'_' 保持不变，其他字符按照 UTF-8 编码为 %XX，'/'、'\' 等分隔符不会出现在文件名中。
+     * 2. 编码是一一对应的，不同的标识不会对应同一个文件。
+     * 3. 只由 '.' 组成的标识（比如 ".."）同样不会超出目录，因为文件名总是带有后缀。
+     *
+     * @param key 业务标识
+     * @return 文件名称
+     */
+    static String fileName(final String key) {
+        StringBuilder builder = new StringBuilder(key.length() + SUFFIX.length());
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            final char c = (char) (b & 0xFF);
+            if ((c >= 'a' && c <= 'z')
+                    || (c >= 'A' && c <= 'Z')
+                    || (c >= '0' && c <= '9')
+                    || c == '.' || c == '-' || c == '_') {
+                builder.append(c);
+            } else {
+                builder.append('%')
+                        .append(Character.toUpperCase(Character.forDigit(c >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+            }
+        }
+        return builder.append(SUFFIX).toString();
+    }
+
+    /**
+     * 读取指定位置的记录
+     * @param channel 通道
+     * @param position 位置
+     * @return 结果
+     * @throws IOException 异常
+     */
+    private long readLong(final FileChannel channel, final long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment file");
+            }
+        }
+        buffer.flip();
+        return buffer.getLong();
+    }
+
+}
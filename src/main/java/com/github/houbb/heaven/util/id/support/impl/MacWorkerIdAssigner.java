@@ -0,0 +1,61 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+
+import java.net.NetworkInterface;
+import java.util.Enumeration;
+
+/**
+ * 基于本机网卡 MAC 地址的标识分配
+ *
+ * 1. 直接枚举本地网卡，不调用 {@link java.net.InetAddress#getLocalHost()}，不会触发 DNS 解析。
+ * 2. MAC 地址在第一次使用时计算，之后直接复用。
+ * 3. 同一台机器上的结果相同，只适合作为数据中心标识等机器级别的区分。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class MacWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * 静态内部类实现延迟计算
+     */
+    private static class MacHolder {
+        private static final long MAC_HASH = macHash();
+    }
+
+    @Override
+    public long assign(long maxId) {
+        final long hash = MacHolder.MAC_HASH;
+        if (hash < 0) {
+            return -1;
+        }
+        return hash % (maxId + 1);
+    }
+
+    /**
+     * 获取第一个非回环网卡 MAC 地址的低 16 位
+     * @return 结果，获取失败返回 -1
+     */
+    private static long macHash() {
+        try {
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements()) {
+                NetworkInterface network = interfaces.nextElement();
+                if (network.isLoopback() || network.isVirtual()) {
+                    continue;
+                }
+                byte[] mac = network.getHardwareAddress();
+                if (mac != null && mac.length >= 2) {
+                    return ((0x000000FF & (long) mac[mac.length - 1]) | (0x0000FF00 & (((long) mac[mac.length - 2]) << 8)));
+                }
+            }
+        } catch (Exception e) {
+            // 无法获取网卡信息时交给后续的分配方式
+        }
+        return -1;
+    }
+
+}
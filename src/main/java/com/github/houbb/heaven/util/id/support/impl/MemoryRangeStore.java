@@ -0,0 +1,48 @@
+/*
+ * Copyright (c)  2019. houbinbin Inc.
+ * heaven All rights reserved.
+ */
+
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.util.common.ArgUtil;
+import com.github.houbb.heaven.util.id.support.RangeStore;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于内存的号段存储
+ *
+ * 1. 适用于单进程和测试场景，进程重启后从 0 开始。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class MemoryRangeStore implements RangeStore {
+
+    /**
+     * 各个业务标识当前的最大值
+     */
+    private final ConcurrentMap<String, AtomicLong> maxMap = new ConcurrentHashMap<>();
+
+    @Override
+    public long nextMax(String key, long step) {
+        ArgUtil.notEmpty(key, "key");
+        ArgUtil.positive(step, "step");
+
+        AtomicLong max = maxMap.get(key);
+        if (max == null) {
+            AtomicLong created = new AtomicLong(0L);
+            max = maxMap.putIfAbsent(key, created);
+            if (max == null) {
+                max = created;
+            }
+        }
+        return max.addAndGet(step);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+import com.github.houbb.heaven.util.lang.StringUtil;
+
+/**
+ * 基于系统属性/环境变量的标识分配
+ *
+ * 1. 优先读取系统属性，其次读取环境变量。
+ * 2. 都没有配置时返回 -1，交给后续的分配方式处理。
+ *
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class PropertyWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * 系统属性名称
+     */
+    private final String propertyKey;
+
+    /**
+     * 环境变量名称
+     */
+    private final String envKey;
+
+    /**
+     * @param propertyKey 系统属性名称
+     * @param envKey 环境变量名称
+     */
+    public PropertyWorkerIdAssigner(String propertyKey, String envKey) {
+        this.propertyKey = propertyKey;
+        this.envKey = envKey;
+    }
+
+    @Override
+    public long assign(long maxId) {
+        String value = System.getProperty(propertyKey);
+        if (StringUtil.isBlank(value)) {
+            value = System.getenv(envKey);
+        }
+        if (StringUtil.isBlank(value)) {
+            return -1;
+        }
+
+        final long id;
+        try {
+            id = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("%s/%s must be a number, but is %s", propertyKey, envKey, value), e);
+        }
+        if (id < 0 || id > maxId) {
+            throw new IllegalArgumentException(String.format("%s/%s can't be greater than %d or less than 0", propertyKey, envKey, maxId));
+        }
+        return id;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 随机标识分配
+ * 1. 兜底使用，不保证不重复。
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+@ThreadSafe
+public class RandomWorkerIdAssigner implements WorkerIdAssigner {
+
+    @Override
+    public long assign(long maxId) {
+        return ThreadLocalRandom.current().nextLong(maxId + 1);
+    }
+
+}
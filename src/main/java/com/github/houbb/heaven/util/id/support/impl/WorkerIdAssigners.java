@@ -0,0 +1,60 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.util.id.support.WorkerIdAssigner;
+
+/**
+ * 标识分配工具类
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public final class WorkerIdAssigners {
+
+    private WorkerIdAssigners(){}
+
+    /**
+     * 机器标识的系统属性
+     */
+    public static final String WORKER_ID_PROPERTY = "heaven.snowflake.workerId";
+
+    /**
+     * 机器标识的环境变量
+     */
+    public static final String WORKER_ID_ENV = "HEAVEN_SNOWFLAKE_WORKER_ID";
+
+    /**
+     * 数据中心标识的系统属性
+     */
+    public static final String DATACENTER_ID_PROPERTY = "heaven.snowflake.datacenterId";
+
+    /**
+     * 数据中心标识的环境变量
+     */
+    public static final String DATACENTER_ID_ENV = "HEAVEN_SNOWFLAKE_DATACENTER_ID";
+
+    /**
+     * 默认的机器标识分配
+     * 1. 系统属性/环境变量
+     * 2. 本地租约文件锁，保证同一台机器不重复；标识耗尽时抛出异常
+     * 3. 随机兜底，仅在租约目录不可写时使用
+     * @return 实现
+     */
+    public static WorkerIdAssigner worker() {
+        return new ChainWorkerIdAssigner(new PropertyWorkerIdAssigner(WORKER_ID_PROPERTY, WORKER_ID_ENV),
+                new FileLockWorkerIdAssigner(),
+                new RandomWorkerIdAssigner());
+    }
+
+    /**
+     * 默认的数据中心标识分配
+     * 1. 系统属性/环境变量
+     * 2. 本机 MAC 地址
+     * 3. 随机兜底
+     * @return 实现
+     */
+    public static WorkerIdAssigner datacenter() {
+        return new ChainWorkerIdAssigner(new PropertyWorkerIdAssigner(DATACENTER_ID_PROPERTY, DATACENTER_ID_ENV),
+                new MacWorkerIdAssigner(),
+                new RandomWorkerIdAssigner());
+    }
+
+}
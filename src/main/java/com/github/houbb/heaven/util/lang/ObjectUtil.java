@@ -5,8 +5,7 @@
 
 package com.github.houbb.heaven.util.lang;
 
-import com.github.houbb.heaven.util.lang.reflect.ClassTypeUtil;
-import com.github.houbb.heaven.util.lang.reflect.ClassUtil;
+import com.github.houbb.heaven.support.equals.impl.DeepEquals;
 import com.github.houbb.heaven.util.util.CollectionUtil;
 import com.github.houbb.heaven.util.util.MapUtil;
 
@@ -26,6 +25,44 @@ public final class ObjectUtil {
     private ObjectUtil() {
     }
 
+    /**
+     * 判空类型：其他
+     * @since 0.1.13
+     */
+    private static final int EMPTY_KIND_NONE = 0;
+
+    private static final int EMPTY_KIND_STRING = 1;
+
+    private static final int EMPTY_KIND_COLLECTION = 2;
+
+    private static final int EMPTY_KIND_MAP = 3;
+
+    private static final int EMPTY_KIND_ARRAY = 4;
+
+    /**
+     * 每个类的判空类型
+     * 1. 类型判断只进行一次，之后直接分发
+     * @since 0.1.13
+     */
+    private static final ClassValue<Integer> EMPTY_KIND = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            if (String.class == type) {
+                return EMPTY_KIND_STRING;
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return EMPTY_KIND_COLLECTION;
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return EMPTY_KIND_MAP;
+            }
+            if (type.isArray()) {
+                return EMPTY_KIND_ARRAY;
+            }
+            return EMPTY_KIND_NONE;
+        }
+    };
+
     /**
      * 判断两个对象是否为同一对象
      * instanceof
@@ -99,23 +136,18 @@ public final class ObjectUtil {
             return true;
         }
 
-        if (object instanceof String) {
-            String string = (String) object;
-            return StringUtil.isEmpty(string);
-        }
-        if (object instanceof Collection) {
-            Collection collection = (Collection) object;
-            return CollectionUtil.isEmpty(collection);
-        }
-        if (object instanceof Map) {
-            Map map = (Map) object;
-            return MapUtil.isEmpty(map);
+        switch (EMPTY_KIND.get(object.getClass())) {
+            case EMPTY_KIND_STRING:
+                return StringUtil.isEmpty((String) object);
+            case EMPTY_KIND_COLLECTION:
+                return CollectionUtil.isEmpty((Collection) object);
+            case EMPTY_KIND_MAP:
+                return MapUtil.isEmpty((Map) object);
+            case EMPTY_KIND_ARRAY:
+                return Array.getLength(object) == 0;
+            default:
+                return false;
         }
-        if (object.getClass().isArray()) {
-            return Array.getLength(object) == 0;
-        }
-
-        return false;
     }
 
     /**
@@ -132,6 +164,7 @@ public final class ObjectUtil {
     /**
      * 判断两个对象是否相同
      * 1.如果不是同一种类型,则直接返回false
+     * 2.数组比较其中的元素，支持基本类型数组
      *
      * @param except 期望值
      * @param real   实际值
@@ -142,32 +175,16 @@ public final class ObjectUtil {
         if (isNotSameType(except, real)) {
             return false;
         }
-
-        final Class exceptClass = except.getClass();
-        final Class realClass = except.getClass();
-
-        //2. 基本类型
-        if (exceptClass.isPrimitive()
-                && realClass.isPrimitive()
-                && except != real) {
-            return false;
-        }
-
-        //3. 数组
-        if (ClassTypeUtil.isArray(exceptClass)
-                && ClassTypeUtil.isArray(realClass)) {
-            Object[] exceptArray = (Object[]) except;
-            Object[] realArray = (Object[]) real;
-            return Arrays.equals(exceptArray, realArray);
+        if (except == real) {
+            return true;
         }
 
-        //3. Collection
-
-        //4. map
-        if (ClassTypeUtil.isMap(exceptClass) && ClassTypeUtil.isMap(realClass)) {
-            Map exceptMap = (Map) except;
-            Map realMap = (Map) real;
-            return exceptMap.equals(realMap);
+        //2. 数组
+        if (except.getClass().isArray()) {
+            if (except instanceof Object[]) {
+                return Arrays.deepEquals((Object[]) except, (Object[]) real);
+            }
+            return DeepEquals.getInstance().isEquals(except, real);
         }
 
         return except.equals(real);
@@ -185,4 +202,31 @@ public final class ObjectUtil {
         return !isEquals(except, real);
     }
 
+    /**
+     * 判断两个对象是否深度相同
+     * 1. 两个都为 null 时相同
+     * 2. 数组、集合、map 比较其中的元素，没有重写 equals 的普通对象比较其中的字段
+     *
+     * @param except 期望值
+     * @param real   实际值
+     * @return 两个对象是否相同
+     * @since 0.1.13
+     * @see DeepEquals 深度比较
+     */
+    public static boolean isDeepEquals(Object except, Object real) {
+        return DeepEquals.getInstance().isEquals(except, real);
+    }
+
+    /**
+     * 判断两个对象是否深度不同
+     *
+     * @param except 期望值
+     * @param real   实际值
+     * @return 两个对象是否不同
+     * @since 0.1.13
+     */
+    public static boolean isNotDeepEquals(Object except, Object real) {
+        return !isDeepEquals(except, real);
+    }
+
 }
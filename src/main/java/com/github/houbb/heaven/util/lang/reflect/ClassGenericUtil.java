@@ -5,17 +5,17 @@
 
 package com.github.houbb.heaven.util.lang.reflect;
 
+import com.github.houbb.heaven.reflect.util.ClassMetas;
 import com.github.houbb.heaven.util.lang.ObjectUtil;
-import com.github.houbb.heaven.util.util.ArrayUtil;
 import com.github.houbb.heaven.util.util.CollectionUtil;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.List;
-import java.util.Set;
 
 /**
  * class 泛型工具类
@@ -29,51 +29,57 @@ public final class ClassGenericUtil {
 
     private ClassGenericUtil(){}
 
-    /**
-     * 获取当前类的泛型接口信息
-     * @param clazz 类
-     * @return 泛型接口信息
-     */
-    private static List<Type> getGenericInterfaces(final Class clazz) {
-        Set<Type> typeSet = new HashSet<>();
-
-        // 添加当前类的泛型接口信息
-        Type[] types = clazz.getGenericInterfaces();
-        if(ArrayUtil.isNotEmpty(types)) {
-            typeSet.addAll(Arrays.asList(types));
-        }
-
-        // 当前类的泛型父类信息
-        Type superType = clazz.getGenericSuperclass();
-        if(ObjectUtil.isNotNull(superType)
-                && superType.getClass().isInterface()) {
-            typeSet.add(superType);
-        }
-
-        return new ArrayList<>(typeSet);
-    }
-
-
     /**
      * 获取泛型类型
+     *
+     * 1. 基于 {@link ClassMetas} 中缓存的泛型元数据，遍历整个继承体系，支持多层父类和接口传递的类型变量
+     * 2. 嵌套的泛型返回其原始类型，无法确定的类型变量返回其上界
+     *
      * @param clazz 数据类型
-     * @param interfaceClass 接口对应的 class 信息
+     * @param interfaceClass 接口对应的 class 信息，也可以是父类
      * @param index 泛型的下标志位置
-     * @return 对应的泛型类型
+     * @return 对应的泛型类型，不存在时返回 Object.class
      */
     public static Class getGenericType(final Class clazz,
                                        final Class interfaceClass,
                                        final int index) {
-        List<Type> typeList = ClassGenericUtil.getGenericInterfaces(clazz);
-        for(Type type : typeList) {
-            if(type instanceof ParameterizedType
-                    && interfaceClass.equals(((ParameterizedType) type).getRawType())
-            ) {
-                ParameterizedType p = (ParameterizedType)type;
-                return (Class) p.getActualTypeArguments()[index];
-            }
+        Class result = ClassMetas.get(clazz).generic().typeArgument(interfaceClass, index);
+        if(result == null) {
+            return Object.class;
         }
+        return result;
+    }
 
+    /**
+     * 获取类型对应的 class
+     *
+     * 1. 泛型类型返回原始类型
+     * 2. 泛型数组返回对应的数组类型
+     * 3. 类型变量和通配符返回第一个上界
+     *
+     * @param type 类型
+     * @return 对应的 class
+     * @since 0.1.13
+     */
+    public static Class getRawClass(final Type type) {
+        if(type instanceof Class) {
+            return (Class) type;
+        }
+        if(type instanceof ParameterizedType) {
+            return (Class) ((ParameterizedType) type).getRawType();
+        }
+        if(type instanceof GenericArrayType) {
+            Class componentClass = getRawClass(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(componentClass, 0).getClass();
+        }
+        if(type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable) type).getBounds();
+            return bounds.length == 0 ? Object.class : getRawClass(bounds[0]);
+        }
+        if(type instanceof WildcardType) {
+            Type[] bounds = ((WildcardType) type).getUpperBounds();
+            return bounds.length == 0 ? Object.class : getRawClass(bounds[0]);
+        }
         return Object.class;
     }
 
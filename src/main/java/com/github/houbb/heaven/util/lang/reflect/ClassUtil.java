@@ -5,12 +5,16 @@
 
 package com.github.houbb.heaven.util.lang.reflect;
 
+import com.github.houbb.heaven.reflect.accessor.Instantiators;
+import com.github.houbb.heaven.reflect.meta.ClassMeta;
+import com.github.houbb.heaven.reflect.meta.FieldMeta;
+import com.github.houbb.heaven.reflect.meta.PropertyMeta;
+import com.github.houbb.heaven.reflect.util.ClassMetas;
 import com.github.houbb.heaven.support.handler.IHandler;
 import com.github.houbb.heaven.util.util.CollectionUtil;
 import com.github.houbb.heaven.util.util.MapUtil;
 
 import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -83,54 +87,55 @@ public final class ClassUtil {
      * @return 结果
      */
     public static Map<String, Object> beanToMap(Object bean) {
-        try {
-            Map<String, Object> map = new LinkedHashMap<>();
-            List<Field> fieldList = ClassUtil.getAllFieldList(bean.getClass());
-
-            for (Field field : fieldList) {
-                final String fieldName = field.getName();
-                final Object fieldValue = field.get(bean);
-                map.put(fieldName, fieldValue);
-            }
-            return map;
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
+        List<FieldMeta> fieldMetaList = ClassMetas.get(bean.getClass()).fields();
+        Map<String, Object> map = new LinkedHashMap<>(fieldMetaList.size() * 4 / 3 + 1);
+
+        for (FieldMeta fieldMeta : fieldMetaList) {
+            final Object fieldValue = fieldMeta.accessor().get(bean);
+            map.put(fieldMeta.name(), fieldValue);
         }
+        return map;
     }
 
     /**
      * 获取对象的实例化
+     * 1. 无参构造器按类缓存，参见 {@link Instantiators#of(Class)}
      * @param clazz 类
      * @param <T> 泛型
      * @return 实例化对象
      */
     public static <T> T newInstance(final Class<T> clazz) {
-        try {
-            return clazz.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return Instantiators.of(clazz).newInstance();
     }
 
     /**
      * 获取所有字段的 read 方法列表
+     *
+     * 1. 基于 {@link ClassMetas} 中缓存的属性索引，不再每次创建 {@link java.beans.PropertyDescriptor}
+     * 2. 读方法和 {@link java.beans.Introspector} 一致：isXxx 只识别基本类型 boolean，其他类型（包括 Boolean）使用 getXxx
+     * 3. 0.1.13 开始，没有读方法的字段直接跳过，不再抛出异常。
+     * 所以结果和 {@link #getAllFieldList(Class)} 的下标不再一一对应，需要字段信息时请使用 {@link PropertyMeta#field()}
+     *
      * @param clazz 类信息
-     * @throws IntrospectionException if any
+     * @throws IntrospectionException 为了兼容保留，不再抛出
      * @return 方法列表
      * @since 0.0.7
      */
     public static List<Method> getAllFieldsReadMethods(final Class clazz) throws IntrospectionException {
-        List<Field> fieldList = getAllFieldList(clazz);
-        if(CollectionUtil.isEmpty(fieldList)) {
+        final ClassMeta classMeta = ClassMetas.get(clazz);
+        List<FieldMeta> fieldMetaList = classMeta.fields();
+        if(CollectionUtil.isEmpty(fieldMetaList)) {
             return Collections.emptyList();
         }
 
-        List<Method> methods = new ArrayList<>();
-        for(Field field : fieldList) {
-            PropertyDescriptor pd = new PropertyDescriptor(field.getName(), clazz);
+        List<Method> methods = new ArrayList<>(fieldMetaList.size());
+        for(FieldMeta fieldMeta : fieldMetaList) {
+            PropertyMeta propertyMeta = classMeta.property(fieldMeta.name());
             //获得get方法
-            Method getMethod = pd.getReadMethod();
-            methods.add(getMethod);
+            if(propertyMeta != null
+                && propertyMeta.readMethod() != null) {
+                methods.add(propertyMeta.readMethod());
+            }
         }
         return methods;
     }
@@ -5,17 +5,16 @@
 
 package com.github.houbb.heaven.util.lang.reflect;
 
+import com.github.houbb.heaven.reflect.util.ClassMetas;
 import com.github.houbb.heaven.util.common.ArgUtil;
 import com.github.houbb.heaven.util.lang.ObjectUtil;
 import com.github.houbb.heaven.util.util.ArrayUtil;
-import com.github.houbb.heaven.util.util.CollectionUtil;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.List;
 
 /**
  * 反射字段工具类
@@ -29,6 +28,11 @@ public final class ReflectFieldUtil {
 
     /**
      * 是否可以设置
+     *
+     * 1. 目标字段为 final 时不可设置
+     * 2. 源字段类型可以赋值给目标字段类型时可以设置
+     * 3. 基础类型和对应的包装类型之间可以互相设置，包装类型的值为 null 时需要调用方自行忽略
+     *
      * @param sourceField 原始字段
      * @param targetField 目标字段
      * @return 结果
@@ -47,20 +51,18 @@ public final class ReflectFieldUtil {
 
         final Class<?> sourceType = sourceField.getType();
         final Class<?> targetType = targetField.getType();
-        if(sourceType.isAssignableFrom(targetType)) {
+        if(targetType.isAssignableFrom(sourceType)) {
             return true;
         }
 
         // 基础类型的判断
-        Class resolvedPrimitive;
         if (sourceType.isPrimitive()) {
-            resolvedPrimitive = PrimitiveUtil.getPrimitiveType(targetType);
-            return sourceType == resolvedPrimitive;
-        } else {
-            resolvedPrimitive = PrimitiveUtil.getPrimitiveType(targetType);
-            return resolvedPrimitive != null && sourceType.isAssignableFrom(resolvedPrimitive);
+            return targetType.isAssignableFrom(PrimitiveUtil.getReferenceType(sourceType));
         }
-
+        if (targetType.isPrimitive()) {
+            return PrimitiveUtil.getPrimitiveType(sourceType) == targetType;
+        }
+        return false;
     }
 
     /**
@@ -110,7 +112,7 @@ public final class ReflectFieldUtil {
      * [java通过反射获取List中的泛型](https://blog.csdn.net/yy19900811/article/details/24239945?utm_source=blogxgwz4)
      * @param field 字段
      * @param paramIndex 泛型参数的下标
-     * @return 泛型信息
+     * @return 泛型信息，嵌套的泛型返回其原始类型
      */
     public static Class getGenericParamType(final Field field, final int paramIndex) {
         if(ObjectUtil.isNull(field)) {
@@ -132,13 +134,16 @@ public final class ReflectFieldUtil {
                 return null;
             }
 
-            return (Class<?>)types[paramIndex];
+            return ClassGenericUtil.getRawClass(types[paramIndex]);
         }
         return null;
     }
 
     /**
      * 当前类包含指定的注解信息
+     *
+     * 1. 基于 {@link ClassMetas} 中缓存的注解索引，不再每次遍历字段
+     *
      * @param clazz 类
      * @param annotationClass 注解类
      * @return 是否包含
@@ -148,17 +153,7 @@ public final class ReflectFieldUtil {
         ArgUtil.notNull(clazz, "Clazz");
         ArgUtil.notNull(annotationClass, "Annotation class");
 
-        List<Field> fieldList = ClassUtil.getAllFieldList(clazz);
-        if(CollectionUtil.isEmpty(fieldList)) {
-            return false;
-        }
-
-        for(Field field : fieldList) {
-            if(field.isAnnotationPresent(annotationClass)) {
-                return true;
-            }
-        }
-        return false;
+        return !ClassMetas.get(clazz).annotatedFields(annotationClass).isEmpty();
     }
 
 }
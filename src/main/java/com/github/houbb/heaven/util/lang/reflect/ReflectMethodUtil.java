@@ -23,14 +23,14 @@ public final class ReflectMethodUtil {
      * 获取方法返回值的泛型
      * @param method 方法
      * @param index 泛型的下标
-     * @return 返回类型的泛型
+     * @return 返回类型的泛型，嵌套的泛型返回其原始类型
      */
     public static Class getReturnGenericType(final Method method, final int index) {
         Type returnType = method.getGenericReturnType();
         if(returnType instanceof ParameterizedType){
             ParameterizedType type = (ParameterizedType) returnType;
             Type[] typeArguments = type.getActualTypeArguments();
-            return (Class) typeArguments[index];
+            return ClassGenericUtil.getRawClass(typeArguments[index]);
         }
         return null;
     }
@@ -40,7 +40,7 @@ public final class ReflectMethodUtil {
      * @param method 方法
      * @param paramIndex 方法的下标
      * @param genericIndex 泛型的下标
-     * @return 对应的类型
+     * @return 对应的类型，嵌套的泛型返回其原始类型
      */
     public static Class getParamGenericType(final Method method,
                                             final int paramIndex,
@@ -50,7 +50,7 @@ public final class ReflectMethodUtil {
         if(genericParameterType instanceof ParameterizedType) {
             ParameterizedType aType = (ParameterizedType) genericParameterType;
             Type[] parameterArgTypes = aType.getActualTypeArguments();
-            return (Class) parameterArgTypes[genericIndex];
+            return ClassGenericUtil.getRawClass(parameterArgTypes[genericIndex]);
         }
         return null;
     }
@@ -0,0 +1,69 @@
+package com.github.houbb.heaven.reflect.accessor;
+
+import com.github.houbb.heaven.reflect.exception.ReflectRumtionException;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.instance.impl.InstanceFactory;
+import com.github.houbb.heaven.util.lang.reflect.ClassUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class InstantiatorsTest {
+
+    public static class PublicBean {
+        private final String name;
+
+        public PublicBean() {
+            this("default");
+        }
+
+        private PublicBean(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class PrivateBean {
+        private PrivateBean() {
+        }
+    }
+
+    @Test
+    public void publicConstructorTest() {
+        Assert.assertEquals("default", ClassUtil.newInstance(PublicBean.class).name);
+        Assert.assertEquals("default", Instantiators.of(PublicBean.class).newInstance().name);
+        Assert.assertNotNull(InstanceFactory.getInstance().multiple(PublicBean.class));
+    }
+
+    /**
+     * 无参构造器的缓存不强制访问，和 Class.newInstance 一致
+     */
+    @Test
+    public void privateConstructorTest() {
+        try {
+            ClassUtil.newInstance(PrivateBean.class);
+            Assert.fail();
+        } catch (ReflectRumtionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalAccessException);
+        }
+
+        try {
+            InstanceFactory.getInstance().multiple(PrivateBean.class);
+            Assert.fail();
+        } catch (CommonRuntimeException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * 指定构造器时强制访问
+     */
+    @Test
+    public void explicitConstructorTest() {
+        Assert.assertEquals("named", Instantiators.of(PublicBean.class, String.class).newInstance("named").name);
+        Assert.assertNotNull(Instantiators.of(PrivateBean.class, new Class[0]).newInstance());
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.github.houbb.heaven.reflect.handler;
+
+import com.github.houbb.heaven.reflect.api.IMethod;
+import com.github.houbb.heaven.reflect.simple.SimpleClass;
+import com.github.houbb.heaven.reflect.simple.SimpleMethod;
+import com.github.houbb.heaven.reflect.simple.SimpleParam;
+import com.github.houbb.heaven.reflect.simple.SimpleReturn;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class SimpleClassHandlerTest {
+
+    /**
+     * 修改返回值不会影响缓存
+     */
+    @Test
+    public void snapshotTest() throws Exception {
+        final SimpleClassHandler handler = new SimpleClassHandler();
+        SimpleClass first = handler.handle(String.class);
+        Assert.assertEquals("String", first.name());
+        Assert.assertNotNull(first.method("length"));
+
+        first.name("changed").methods(Collections.<IMethod>emptyList());
+        try {
+            handler.handle(String.class).methods().clear();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // ignore
+        }
+
+        SimpleClass second = handler.handle(String.class);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals("String", second.name());
+        Assert.assertNotNull(second.method("length"));
+        Assert.assertSame(second.method("length").invoker(), first.method(String.class.getMethod("length")).invoker());
+    }
+
+    @Test
+    public void methodCopyTest() throws Exception {
+        final SimpleMethodHandler handler = new SimpleMethodHandler();
+        SimpleMethod first = handler.handle(String.class.getMethod("length"));
+        first.name("changed");
+
+        SimpleMethod second = handler.handle(String.class.getMethod("length"));
+        Assert.assertEquals("length", second.name());
+        Assert.assertEquals(5, second.invoke("hello"));
+    }
+
+    /**
+     * 缓存的方法信息不可修改，按名称查找重载方法
+     */
+    @Test
+    public void immutableMethodTest() throws Exception {
+        final SimpleClassHandler handler = new SimpleClassHandler();
+        SimpleClass simpleClass = handler.handle(String.class);
+
+        IMethod byInt = simpleClass.method("indexOf", int.class);
+        IMethod byString = simpleClass.method("indexOf", String.class);
+        Assert.assertEquals(String.class.getMethod("indexOf", int.class), byInt.method());
+        Assert.assertEquals(String.class.getMethod("indexOf", String.class), byString.method());
+        Assert.assertNull(simpleClass.method("indexOf", long.class));
+        Assert.assertNull(simpleClass.method("notExists"));
+
+        Assert.assertFalse(byString instanceof SimpleMethod);
+        Assert.assertFalse(byString.params().get(0) instanceof SimpleParam);
+        Assert.assertFalse(byString.returns() instanceof SimpleReturn);
+        Assert.assertSame(byString, handler.handle(String.class).method("indexOf", String.class));
+        Assert.assertEquals(1, byString.invoke("hello", "e"));
+        try {
+            byString.params().clear();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // ignore
+        }
+
+        // 替换方法列表后不再使用原来的名称索引
+        simpleClass.methods(Collections.<IMethod>singletonList(byInt));
+        Assert.assertNull(simpleClass.method("indexOf", String.class));
+        Assert.assertSame(byInt, simpleClass.method("indexOf", int.class));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.github.houbb.heaven.reflect.meta;
+
+import com.github.houbb.heaven.reflect.util.ClassMetas;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class ClassMetaTest {
+
+    public static class Flags {
+
+        private boolean active;
+
+        private Boolean enabled;
+
+        private Boolean visible;
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public boolean getActive() {
+            return active;
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public Boolean isVisible() {
+            return visible;
+        }
+    }
+
+    /**
+     * 和 Introspector 一致，isXxx 只识别基本类型 boolean
+     */
+    @Test
+    public void readMethodTest() throws Exception {
+        final ClassMeta classMeta = ClassMetas.get(Flags.class);
+
+        Assert.assertEquals(Flags.class.getMethod("isActive"), classMeta.property("active").readMethod());
+        Assert.assertEquals(Flags.class.getMethod("getEnabled"), classMeta.property("enabled").readMethod());
+
+        PropertyMeta visible = classMeta.property("visible");
+        Assert.assertNull(visible.readMethod());
+        Assert.assertEquals("visible", visible.field().name());
+    }
+
+}
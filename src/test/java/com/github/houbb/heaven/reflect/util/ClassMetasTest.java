@@ -0,0 +1,31 @@
+package com.github.houbb.heaven.reflect.util;
+
+import com.github.houbb.heaven.reflect.meta.ClassMeta;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class ClassMetasTest {
+
+    private static class Once {
+        private String name;
+    }
+
+    /**
+     * 每个类只解析一次
+     */
+    @Test
+    public void onceTest() {
+        final long missCount = ClassMetas.missCount();
+        final ClassMeta first = ClassMetas.get(Once.class);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(first, ClassMetas.get(Once.class));
+        }
+        Assert.assertEquals(missCount + 1, ClassMetas.missCount());
+        Assert.assertEquals("name", first.fields().get(0).name());
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.github.houbb.heaven.support.clock.impl;
+
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class CachedClockTest {
+
+    /**
+     * 共享的单例不允许停止
+     */
+    @Test
+    public void sharedShutdownTest() throws InterruptedException {
+        final CachedClock clock = CachedClock.getInstance();
+        try {
+            clock.shutdown();
+            Assert.fail();
+        } catch (CommonRuntimeException e) {
+            // expected
+        }
+
+        final long before = clock.currentTimeMillis();
+        TimeUnit.MILLISECONDS.sleep(20);
+        Assert.assertTrue(clock.currentTimeMillis() > before);
+    }
+
+    /**
+     * 自行创建的实例可以停止，停止后时间不再变化
+     */
+    @Test
+    public void shutdownTest() throws InterruptedException {
+        final CachedClock clock = new CachedClock(1, TimeUnit.MILLISECONDS);
+        clock.shutdown();
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        final long stopped = clock.currentTimeMillis();
+        TimeUnit.MILLISECONDS.sleep(20);
+        Assert.assertEquals(stopped, clock.currentTimeMillis());
+    }
+
+}
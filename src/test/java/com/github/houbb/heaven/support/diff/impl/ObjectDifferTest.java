@@ -0,0 +1,164 @@
+package com.github.houbb.heaven.support.diff.impl;
+
+import com.github.houbb.heaven.support.diff.IDiffListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class ObjectDifferTest {
+
+    static class User {
+        String name;
+        int age;
+        User friend;
+        List<String> tags;
+        Map<String, Object> extra;
+        Object[] values;
+    }
+
+    static class OtherUser {
+        String name;
+    }
+
+    /**
+     * 记录所有差异，格式为 path=before->after
+     */
+    private static List<String> diff(Object before, Object after) {
+        final List<String> results = new ArrayList<>();
+        ObjectDiffer.getInstance().diff(before, after, new IDiffListener() {
+            @Override
+            public void onDiff(String path, Object before, Object after) {
+                results.add(path + "=" + before + "->" + after);
+            }
+        });
+        return results;
+    }
+
+    @Test
+    public void beanTest() {
+        User before = new User();
+        before.name = "a";
+        before.age = 1;
+        User after = new User();
+        after.name = "b";
+        after.age = 2;
+        after.friend = new User();
+
+        Assert.assertEquals(3, diff(before, after).size());
+        Assert.assertTrue(diff(before, after).contains("name=a->b"));
+        Assert.assertTrue(diff(before, after).contains("age=1->2"));
+        Assert.assertTrue(diff(before, before).isEmpty());
+    }
+
+    @Test
+    public void nestedPathTest() {
+        User before = new User();
+        before.friend = new User();
+        before.friend.tags = Arrays.asList("x", "y");
+        User after = new User();
+        after.friend = new User();
+        after.friend.tags = Arrays.asList("x", "z", "w");
+
+        Assert.assertEquals(Arrays.asList("friend.tags[1]=y->z", "friend.tags[2]=null->w"),
+                diff(before, after));
+    }
+
+    /**
+     * 不同实现的列表和 map 仍然逐个元素比较
+     */
+    @Test
+    public void sameKindDifferentClassTest() {
+        Assert.assertEquals(Arrays.asList("[1]=2->3"),
+                diff(new ArrayList<>(Arrays.asList(1, 2)), new LinkedList<>(Arrays.asList(1, 3))));
+        Assert.assertTrue(diff(new ArrayList<>(Arrays.asList(1, 2)), new LinkedList<>(Arrays.asList(1, 2))).isEmpty());
+
+        Map<String, Integer> before = new HashMap<>();
+        before.put("a", 1);
+        Map<String, Integer> after = new TreeMap<>();
+        after.put("a", 2);
+        Assert.assertEquals(Arrays.asList("[a]=1->2"), diff(before, after));
+
+        Assert.assertEquals(Arrays.asList("[0]=a->b"),
+                diff(new String[]{"a"}, new Object[]{"b"}));
+    }
+
+    /**
+     * 不同类型的普通对象整体输出
+     */
+    @Test
+    public void differentBeanClassTest() {
+        User before = new User();
+        OtherUser after = new OtherUser();
+        Assert.assertEquals(1, diff(before, after).size());
+        Assert.assertEquals(1, diff(new ArrayList<>(), new HashMap<>()).size());
+    }
+
+    /**
+     * 删除的 key 即使值为 null 也会输出
+     */
+    @Test
+    public void mapTest() {
+        Map<String, Object> before = new LinkedHashMap<>();
+        before.put("removed", null);
+        before.put("removedValue", 1);
+        before.put("same", null);
+        Map<String, Object> after = new LinkedHashMap<>();
+        after.put("same", null);
+        after.put("added", null);
+
+        Assert.assertEquals(Arrays.asList("[removed]=null->null",
+                "[removedValue]=1->null",
+                "[added]=null->null"), diff(before, after));
+    }
+
+    /**
+     * 循环引用不会导致栈溢出
+     */
+    @Test
+    public void cycleTest() {
+        User before = new User();
+        before.friend = before;
+        before.name = "a";
+        User after = new User();
+        after.friend = after;
+        after.name = "b";
+
+        Assert.assertEquals(Arrays.asList("name=a->b"), diff(before, after));
+    }
+
+    /**
+     * 监听器中再次调用不会破坏外层的路径
+     */
+    @Test
+    public void reentrantTest() {
+        User before = new User();
+        before.name = "a";
+        before.values = new Object[]{1};
+        User after = new User();
+        after.name = "b";
+        after.values = new Object[]{2};
+
+        final List<String> paths = new ArrayList<>();
+        ObjectDiffer.getInstance().diff(before, after, new IDiffListener() {
+            @Override
+            public void onDiff(String path, Object before, Object after) {
+                paths.add(path);
+                Assert.assertEquals(1, diff(new int[]{1}, new int[]{2}).size());
+            }
+        });
+        Assert.assertEquals(Arrays.asList("name", "values[0]"), paths);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.houbb.heaven.support.equals.impl;
+
+import com.github.houbb.heaven.constant.enums.EqualsKindEnum;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class DeepEqualsTest {
+
+    private final DeepEquals deepEquals = DeepEquals.getInstance();
+
+    /**
+     * 普通对象，没有重写 equals
+     */
+    static class Node {
+        int id;
+        double weight;
+        Node next;
+        List<Node> children = new ArrayList<>();
+
+        Node(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    public void kindTest() {
+        Assert.assertEquals(EqualsKindEnum.BEAN, EqualsStrategy.of(Node.class).kind());
+        Assert.assertEquals(EqualsKindEnum.VALUE, EqualsStrategy.of(String.class).kind());
+        Assert.assertEquals(EqualsKindEnum.LIST, EqualsStrategy.of(LinkedList.class).kind());
+        Assert.assertEquals(EqualsKindEnum.MAP, EqualsStrategy.of(HashMap.class).kind());
+        Assert.assertEquals(EqualsKindEnum.OBJECT_ARRAY, EqualsStrategy.of(Node[].class).kind());
+        Assert.assertEquals(EqualsKindEnum.INT_ARRAY, EqualsStrategy.of(int[].class).kind());
+        Assert.assertEquals(EqualsKindEnum.DOUBLE_ARRAY, EqualsStrategy.of(double[].class).kind());
+        Assert.assertTrue(EqualsKindEnum.BOOLEAN_ARRAY.primitiveArray());
+        Assert.assertFalse(EqualsKindEnum.OBJECT_ARRAY.primitiveArray());
+    }
+
+    @Test
+    public void primitiveArrayTest() {
+        Assert.assertTrue(deepEquals.isEquals(new int[]{1, 2}, new int[]{1, 2}));
+        Assert.assertFalse(deepEquals.isEquals(new int[]{1, 2}, new int[]{1, 3}));
+        Assert.assertFalse(deepEquals.isEquals(new int[]{1, 2}, new long[]{1, 2}));
+        Assert.assertTrue(deepEquals.isEquals(new double[]{Double.NaN}, new double[]{Double.NaN}));
+        Assert.assertFalse(deepEquals.isEquals(new double[]{0.0}, new double[]{-0.0}));
+        Assert.assertTrue(deepEquals.isEquals(new Object[]{new byte[]{1}, "a"}, new Object[]{new byte[]{1}, "a"}));
+        Assert.assertFalse(deepEquals.isEquals(new Object[]{new byte[]{1}}, new Object[]{new byte[]{2}}));
+    }
+
+    @Test
+    public void beanTest() {
+        Node one = new Node(1);
+        one.children.add(new Node(2));
+        Node two = new Node(1);
+        two.children.add(new Node(2));
+        Assert.assertTrue(deepEquals.isEquals(one, two));
+
+        two.children.get(0).weight = 0.5;
+        Assert.assertFalse(deepEquals.isEquals(one, two));
+    }
+
+    @Test
+    public void listAndMapTest() {
+        Assert.assertTrue(deepEquals.isEquals(new ArrayList<>(Arrays.asList(1, 2)),
+                new LinkedList<>(Arrays.asList(1, 2))));
+
+        Map<String, Object> one = new HashMap<>();
+        one.put("a", null);
+        Map<String, Object> two = new HashMap<>();
+        two.put("b", null);
+        Assert.assertFalse(deepEquals.isEquals(one, two));
+    }
+
+    /**
+     * 循环引用不会导致栈溢出
+     */
+    @Test
+    public void cycleTest() {
+        Node one = new Node(1);
+        one.next = one;
+        Node two = new Node(1);
+        two.next = two;
+        Assert.assertTrue(deepEquals.isEquals(one, two));
+
+        Node three = new Node(1);
+        Node four = new Node(1);
+        three.next = four;
+        four.next = three;
+        Assert.assertTrue(deepEquals.isEquals(one, three));
+
+        List<Object> listOne = new ArrayList<>();
+        listOne.add(listOne);
+        List<Object> listTwo = new ArrayList<>();
+        listTwo.add(listTwo);
+        Assert.assertTrue(deepEquals.isEquals(listOne, listTwo));
+
+        Node five = new Node(1);
+        Node six = new Node(2);
+        five.next = six;
+        six.next = five;
+        Assert.assertFalse(deepEquals.isEquals(one, five));
+    }
+
+}
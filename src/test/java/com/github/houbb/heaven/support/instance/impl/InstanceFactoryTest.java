@@ -0,0 +1,118 @@
+package com.github.houbb.heaven.support.instance.impl;
+
+import com.github.houbb.heaven.annotation.NotThreadSafe;
+import com.github.houbb.heaven.annotation.ThreadSafe;
+import com.github.houbb.heaven.annotation.ThreadScoped;
+import com.github.houbb.heaven.constant.enums.InstanceStrategyEnum;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class InstanceFactoryTest {
+
+    @NotThreadSafe
+    public static class NotSafeParent {
+    }
+
+    @ThreadSafe
+    public static class SafeChild extends NotSafeParent {
+    }
+
+    public static class PlainGrandChild extends SafeChild {
+    }
+
+    @ThreadScoped
+    public static class ScopedParent {
+    }
+
+    @ThreadSafe
+    public static class SafeScopedChild extends ScopedParent {
+    }
+
+    @ThreadSafe
+    @NotThreadSafe
+    public static class BothAnnotated {
+    }
+
+    public static class Counted {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public Counted() {
+            CREATED.incrementAndGet();
+            try {
+                // 放大并发创建的窗口
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 并发获取单例时只创建一次
+     */
+    @Test
+    public void singletonExactlyOnceTest() throws Exception {
+        final InstanceFactory factory = InstanceFactory.getInstance();
+        final int threads = 64;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(new Callable<Object[]>() {
+                    @Override
+                    public Object[] call() throws Exception {
+                        startLatch.await();
+                        return new Object[]{factory.singleton(Counted.class),
+                                factory.singleton(Counted.class, "group")};
+                    }
+                }));
+            }
+            startLatch.countDown();
+
+            final Object[] first = futures.get(0).get(10, TimeUnit.SECONDS);
+            Assert.assertNotSame(first[0], first[1]);
+            for (Future<Object[]> future : futures) {
+                final Object[] result = future.get(10, TimeUnit.SECONDS);
+                Assert.assertSame(first[0], result[0]);
+                Assert.assertSame(first[1], result[1]);
+            }
+            Assert.assertEquals(2, Counted.CREATED.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 最近的注解声明生效
+     */
+    @Test
+    public void strategyTest() {
+        final InstanceFactory factory = InstanceFactory.getInstance();
+        Assert.assertEquals(InstanceStrategyEnum.MULTIPLE, factory.strategy(NotSafeParent.class));
+        Assert.assertEquals(InstanceStrategyEnum.SINGLETON, factory.strategy(SafeChild.class));
+        Assert.assertEquals(InstanceStrategyEnum.SINGLETON, factory.strategy(PlainGrandChild.class));
+        Assert.assertEquals(InstanceStrategyEnum.THREAD_LOCAL, factory.strategy(ScopedParent.class));
+        Assert.assertEquals(InstanceStrategyEnum.SINGLETON, factory.strategy(SafeScopedChild.class));
+        Assert.assertEquals(InstanceStrategyEnum.MULTIPLE, factory.strategy(BothAnnotated.class));
+        Assert.assertEquals(InstanceStrategyEnum.MULTIPLE, factory.strategy(Object.class));
+
+        Assert.assertSame(factory.threadSafe(SafeChild.class), factory.threadSafe(SafeChild.class));
+        Assert.assertNotSame(factory.threadSafe(NotSafeParent.class), factory.threadSafe(NotSafeParent.class));
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.github.houbb.heaven.support.instance.impl;
+
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.instance.IInstanceScope;
+import com.github.houbb.heaven.support.pool.IObjectResetter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class PooledInstanceScopesTest {
+
+    private static final IObjectResetter<StringBuilder> RESETTER = new IObjectResetter<StringBuilder>() {
+        @Override
+        public void reset(StringBuilder object) {
+            object.setLength(0);
+        }
+    };
+
+    /**
+     * 作用域关闭后重置并归还，下一个作用域复用
+     */
+    @Test
+    public void reuseTest() {
+        PooledInstanceScopes scopes = new PooledInstanceScopes().maxSize(1)
+                .resetter(StringBuilder.class, RESETTER);
+
+        StringBuilder first;
+        try (IInstanceScope scope = scopes.open()) {
+            first = scope.get(StringBuilder.class);
+            Assert.assertSame(first, scope.get(StringBuilder.class));
+            first.append("dirty");
+        }
+        try (IInstanceScope scope = scopes.open()) {
+            StringBuilder second = scope.get(StringBuilder.class);
+            Assert.assertSame(first, second);
+            Assert.assertEquals(0, second.length());
+        }
+    }
+
+    /**
+     * 对象池创建后不允许再设置重置
+     */
+    @Test(expected = CommonRuntimeException.class)
+    public void resetterAfterPoolTest() {
+        PooledInstanceScopes scopes = new PooledInstanceScopes();
+        scopes.pool(StringBuilder.class);
+        scopes.resetter(StringBuilder.class, RESETTER);
+    }
+
+}
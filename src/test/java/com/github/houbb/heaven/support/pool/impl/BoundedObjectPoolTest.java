@@ -0,0 +1,161 @@
+package com.github.houbb.heaven.support.pool.impl;
+
+import com.github.houbb.heaven.reflect.accessor.Instantiators;
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.support.pool.IObjectResetter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class BoundedObjectPoolTest {
+
+    /**
+     * 达到上限后等待超时
+     */
+    @Test
+    public void timeoutTest() {
+        BoundedObjectPool<StringBuilder> pool = new BoundedObjectPool<>(
+                Instantiators.of(StringBuilder.class), null, 2, 50);
+        pool.borrow();
+        pool.borrow();
+
+        final long start = System.nanoTime();
+        try {
+            pool.borrow();
+            Assert.fail();
+        } catch (CommonRuntimeException e) {
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40);
+        }
+        Assert.assertEquals(2, pool.createdCount());
+        Assert.assertEquals(2, pool.missCount());
+        Assert.assertEquals(1, pool.waitCount());
+        Assert.assertEquals(1, pool.timeoutCount());
+    }
+
+    /**
+     * 归还后复用，重置生效
+     */
+    @Test
+    public void reuseTest() {
+        BoundedObjectPool<StringBuilder> pool = new BoundedObjectPool<>(
+                Instantiators.of(StringBuilder.class), new IObjectResetter<StringBuilder>() {
+            @Override
+            public void reset(StringBuilder object) {
+                object.setLength(0);
+            }
+        }, 1, 0);
+
+        StringBuilder first = pool.borrow();
+        first.append("dirty");
+        pool.release(first);
+        Assert.assertEquals(1, pool.idleCount());
+
+        StringBuilder second = pool.borrow();
+        Assert.assertSame(first, second);
+        Assert.assertEquals(0, second.length());
+        Assert.assertEquals(1, pool.hitCount());
+        Assert.assertEquals(1, pool.missCount());
+    }
+
+    /**
+     * 重置失败丢弃对象时唤醒等待的线程，由其重新创建
+     */
+    @Test
+    public void resetFailureWakesWaiterTest() throws Exception {
+        final BoundedObjectPool<StringBuilder> pool = new BoundedObjectPool<>(
+                Instantiators.of(StringBuilder.class), new IObjectResetter<StringBuilder>() {
+            @Override
+            public void reset(StringBuilder object) {
+                throw new IllegalStateException();
+            }
+        }, 1, 5000);
+
+        final StringBuilder held = pool.borrow();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<StringBuilder> waiter = executorService.submit(new Callable<StringBuilder>() {
+                @Override
+                public StringBuilder call() {
+                    return pool.borrow();
+                }
+            });
+            Thread.sleep(50);
+            final long start = System.nanoTime();
+            pool.release(held);
+
+            StringBuilder created = waiter.get(1, TimeUnit.SECONDS);
+            Assert.assertNotSame(held, created);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+            Assert.assertEquals(1, pool.createdCount());
+            Assert.assertEquals(0, pool.timeoutCount());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 并发借出时，同时借出的对象不超过上限
+     */
+    @Test
+    public void concurrentLimitTest() throws Exception {
+        final int maxSize = 4;
+        final BoundedObjectPool<StringBuilder> pool = new BoundedObjectPool<>(
+                Instantiators.of(StringBuilder.class), null, maxSize, 5000);
+        final AtomicInteger borrowed = new AtomicInteger();
+        final AtomicInteger maxBorrowed = new AtomicInteger();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    for (int j = 0; j < 1000; j++) {
+                        StringBuilder object = pool.borrow();
+                        final int current = borrowed.incrementAndGet();
+                        int max;
+                        while ((max = maxBorrowed.get()) < current
+                                && !maxBorrowed.compareAndSet(max, current)) {
+                            // retry
+                        }
+                        borrowed.decrementAndGet();
+                        pool.release(object);
+                    }
+                }
+            }));
+        }
+        startLatch.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertTrue(maxBorrowed.get() <= maxSize);
+        Assert.assertTrue(pool.createdCount() <= maxSize);
+        Assert.assertEquals(pool.createdCount(), pool.idleCount());
+        Assert.assertEquals(16 * 1000, pool.hitCount() + pool.missCount());
+    }
+
+}
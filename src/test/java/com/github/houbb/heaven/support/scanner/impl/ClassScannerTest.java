@@ -0,0 +1,64 @@
+package com.github.houbb.heaven.support.scanner.impl;
+
+import com.github.houbb.heaven.support.scanner.ClassInfo;
+import com.github.houbb.heaven.support.scanner.ScanResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class ClassScannerTest {
+
+    /**
+     * 常量池只有 2 项，class 常量却指向下标 9
+     */
+    private static final byte[] CORRUPT_CLASS = {
+            (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE,
+            // minor + major
+            0, 0, 0, 0x33,
+            // constant_pool_count
+            0, 2,
+            // #1 Class -> #9
+            7, 0, 9,
+            // access_flags, this_class, super_class
+            0, 0x21, 0, 1, 0, 0,
+            // interfaces, fields, methods, attributes
+            0, 0, 0, 0, 0, 0, 0, 0,
+            0, 0
+    };
+
+    /**
+     * 常量池下标越界时抛出 IOException，而不是数组越界
+     */
+    @Test(expected = IOException.class)
+    public void corruptIndexTest() throws IOException {
+        Assert.assertEquals(29, CORRUPT_CLASS.length);
+        ClassHeaderParser.parse(new ByteArrayInputStream(CORRUPT_CLASS));
+    }
+
+    /**
+     * 单个损坏的 class 文件不影响其他文件的扫描
+     */
+    @Test
+    public void skipCorruptFileTest() throws IOException {
+        final Path root = Files.createTempDirectory("heaven-scanner");
+        final Path dir = Files.createDirectories(root.resolve("com/github/houbb/heaven/support/scanner"));
+        Files.write(dir.resolve("Bad.class"), CORRUPT_CLASS);
+        try (InputStream inputStream = ClassInfo.class.getResourceAsStream("ClassInfo.class")) {
+            Files.copy(inputStream, dir.resolve("ClassInfo.class"));
+        }
+
+        ScanResult result = new ClassScanner().roots(root.toFile()).scan();
+        Assert.assertEquals(1, result.classes().size());
+        Assert.assertNotNull(result.classInfo(ClassInfo.class.getName()));
+    }
+
+}
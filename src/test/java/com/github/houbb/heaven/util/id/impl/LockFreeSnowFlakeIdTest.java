@@ -0,0 +1,290 @@
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.constant.enums.ClockSkewPolicyEnum;
+import com.github.houbb.heaven.constant.enums.SequenceExhaustPolicyEnum;
+import com.github.houbb.heaven.support.clock.IClock;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class LockFreeSnowFlakeIdTest {
+
+    /**
+     * 可以手动调整的时钟
+     */
+    private static class ManualClock implements IClock {
+
+        private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+
+        /**
+         * 每次读取后自动前进的毫秒数
+         */
+        private volatile long tick = 0L;
+
+        @Override
+        public long currentTimeMillis() {
+            return now.getAndAdd(tick);
+        }
+    }
+
+    private static SnowFlakeIdBuilder builder(final IClock clock) {
+        return new SnowFlakeIdBuilder().workerId(1).datacenterId(1).clock(clock);
+    }
+
+    /**
+     * 一次预留当前毫秒内连续的序列号
+     */
+    @Test
+    public void reserveTest() {
+        final ManualClock clock = new ManualClock();
+        LockFreeSnowFlakeId id = builder(clock).build();
+        final SnowFlakeLayout layout = id.layout();
+
+        long[] dst = new long[16];
+        Assert.assertEquals(10, id.reserve(dst, 3, 10));
+        Assert.assertEquals(0, dst[0]);
+        for (int i = 4; i < 13; i++) {
+            Assert.assertEquals(dst[i - 1] + 1, dst[i]);
+            Assert.assertEquals(layout.timestampMillis(dst[3]), layout.timestampMillis(dst[i]));
+        }
+        Assert.assertEquals(1, layout.workerId(dst[3]));
+        Assert.assertEquals(1, layout.datacenterId(dst[3]));
+        Assert.assertEquals(0, dst[13]);
+
+        // 单个生成紧接在预留区间之后
+        Assert.assertEquals(dst[12] + 1, id.nextLong());
+    }
+
+    /**
+     * 单次预留不超过当前毫秒剩余的序列号，借用未来毫秒后继续
+     */
+    @Test
+    public void reserveExhaustTest() {
+        final ManualClock clock = new ManualClock();
+        LockFreeSnowFlakeId id = builder(clock)
+                .sequenceExhaustPolicy(SequenceExhaustPolicyEnum.BORROW_FUTURE)
+                .build();
+        final long maxSequence = id.layout().maxSequence();
+
+        long[] dst = new long[(int) maxSequence + 1];
+        final int granted = id.reserve(dst, 0, dst.length);
+        Assert.assertTrue(granted < dst.length);
+        Assert.assertEquals(maxSequence, id.layout().sequence(dst[granted - 1]));
+
+        final int more = id.reserve(dst, granted, dst.length - granted);
+        Assert.assertEquals(dst.length - granted, more);
+        Assert.assertEquals(1, id.borrowCount());
+        Assert.assertEquals(0, id.skewCount());
+        Assert.assertEquals(0, id.spinCount());
+        Assert.assertEquals(id.layout().timestampMillis(dst[0]) + 1, id.layout().timestampMillis(dst[granted]));
+
+        Set<Long> ids = new HashSet<>();
+        for (long value : dst) {
+            Assert.assertTrue(ids.add(value));
+        }
+    }
+
+    /**
+     * 批量生成跨越多个毫秒
+     */
+    @Test
+    public void nextLongsTest() {
+        final ManualClock clock = new ManualClock();
+        clock.tick = 1L;
+        LockFreeSnowFlakeId id = builder(clock).build();
+
+        long[] dst = new long[20000];
+        id.nextLongs(dst);
+        for (int i = 1; i < dst.length; i++) {
+            Assert.assertTrue(dst[i] > dst[i - 1]);
+        }
+    }
+
+    /**
+     * 容忍范围内的回拨沿用上一次的时间戳，每次生成计一次
+     */
+    @Test
+    public void skewBorrowTest() {
+        final ManualClock clock = new ManualClock();
+        LockFreeSnowFlakeId id = builder(clock).build();
+        final long first = id.nextLong();
+
+        clock.now.addAndGet(-3);
+        final long second = id.nextLong();
+        final long third = id.nextLong();
+        Assert.assertTrue(second > first);
+        Assert.assertTrue(third > second);
+        Assert.assertEquals(id.layout().timestampMillis(first), id.layout().timestampMillis(third));
+        Assert.assertEquals(2, id.skewCount());
+    }
+
+    /**
+     * 超过容忍范围或者策略为抛出异常时，拒绝生成
+     */
+    @Test
+    public void skewThrowTest() {
+        final ManualClock clock = new ManualClock();
+        LockFreeSnowFlakeId id = builder(clock).build();
+        id.nextLong();
+        clock.now.addAndGet(-10);
+        try {
+            id.nextLong();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertEquals(1, id.skewCount());
+        }
+
+        final ManualClock throwClock = new ManualClock();
+        LockFreeSnowFlakeId throwId = builder(throwClock).clockSkewPolicy(ClockSkewPolicyEnum.THROW).build();
+        throwId.nextLong();
+        throwClock.now.addAndGet(-1);
+        try {
+            throwId.nextLong();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertEquals(1, throwId.skewCount());
+        }
+    }
+
+    /**
+     * 等待时钟追上后继续，等待过程只计一次
+     */
+    @Test
+    public void skewWaitTest() {
+        final ManualClock clock = new ManualClock();
+        LockFreeSnowFlakeId id = builder(clock).clockSkewPolicy(ClockSkewPolicyEnum.WAIT).build();
+        final long first = id.nextLong();
+
+        clock.now.addAndGet(-3);
+        clock.tick = 1L;
+        final long second = id.nextLong();
+        Assert.assertTrue(second > first);
+        Assert.assertTrue(id.layout().timestampMillis(second) >= id.layout().timestampMillis(first));
+        Assert.assertEquals(1, id.skewCount());
+        Assert.assertEquals(1, id.spinCount());
+    }
+
+    /**
+     * 并发生成时，CAS 重试不会重复计数
+     */
+    @Test
+    public void skewCountUnderContentionTest() throws Exception {
+        final ManualClock clock = new ManualClock();
+        final LockFreeSnowFlakeId id = builder(clock).build();
+        id.nextLong();
+        clock.now.addAndGet(-2);
+
+        final int threads = 8;
+        final int perThread = 400;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(new Callable<long[]>() {
+                    @Override
+                    public long[] call() throws Exception {
+                        startLatch.await();
+                        long[] result = new long[perThread];
+                        for (int j = 0; j < perThread; j++) {
+                            result[j] = id.nextLong();
+                        }
+                        return result;
+                    }
+                }));
+            }
+            startLatch.countDown();
+
+            Set<Long> ids = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                for (long value : future.get(10, TimeUnit.SECONDS)) {
+                    Assert.assertTrue(ids.add(value));
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(threads * perThread, id.skewCount());
+    }
+
+    /**
+     * 时间戳用尽后拒绝生成，不会溢出
+     */
+    @Test
+    public void timestampExhaustTest() {
+        final SnowFlakeLayout probe = new SnowFlakeLayout(5, 10, 14, 0L);
+        final ManualClock clock = new ManualClock();
+        // 当前时间恰好是可以表示的最大时间戳
+        final long epoch = clock.now.get() - probe.maxTimestamp();
+        LockFreeSnowFlakeId id = builder(clock).layout(5, 10, 14, epoch).build();
+        final long last = id.nextLong();
+        Assert.assertEquals(clock.now.get(), id.layout().timestampMillis(last));
+
+        clock.now.incrementAndGet();
+        try {
+            id.nextLong();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("out of range"));
+        }
+    }
+
+    /**
+     * 借用未来毫秒同样不能超出时间戳范围
+     */
+    @Test
+    public void timestampExhaustBorrowTest() {
+        final SnowFlakeLayout probe = new SnowFlakeLayout(5, 10, 14, 0L);
+        final ManualClock clock = new ManualClock();
+        final long epoch = clock.now.get() - probe.maxTimestamp();
+        LockFreeSnowFlakeId id = builder(clock).layout(5, 10, 14, epoch)
+                .sequenceExhaustPolicy(SequenceExhaustPolicyEnum.BORROW_FUTURE)
+                .build();
+
+        long[] dst = new long[(int) probe.maxSequence() + 1];
+        final int granted = id.reserve(dst, 0, dst.length);
+        Assert.assertEquals(probe.maxSequence(), id.layout().sequence(dst[granted - 1]));
+        try {
+            id.nextLong();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("out of range"));
+        }
+        Assert.assertEquals(0, id.borrowCount());
+    }
+
+    /**
+     * 时钟停止后，序列号耗尽时不会无限自旋
+     */
+    @Test(timeout = 10000)
+    public void stoppedClockTest() {
+        final ManualClock clock = new ManualClock();
+        LockFreeSnowFlakeId id = builder(clock).build();
+
+        long[] dst = new long[(int) id.layout().maxSequence() + 1];
+        id.reserve(dst, 0, dst.length);
+        try {
+            id.nextLong();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("Clock stopped"));
+        }
+        Assert.assertEquals(1, id.spinCount());
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import com.github.houbb.heaven.util.id.support.RangeStore;
+import com.github.houbb.heaven.util.id.support.impl.FileRangeStore;
+import com.github.houbb.heaven.util.id.support.impl.MemoryRangeStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class SegmentIdTest {
+
+    /**
+     * 可以模拟故障的存储
+     */
+    private static class FlakyStore implements RangeStore {
+
+        private final RangeStore delegate = new MemoryRangeStore();
+
+        private final AtomicBoolean down = new AtomicBoolean(false);
+
+        @Override
+        public long nextMax(String key, long step) {
+            if (down.get()) {
+                throw new IllegalStateException("store is down");
+            }
+            return delegate.nextMax(key, step);
+        }
+    }
+
+    /**
+     * 在当前线程中直接执行，使预先申请的结果确定
+     */
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    @Test
+    public void sequentialTest() {
+        SegmentId id = new SegmentId(new MemoryRangeStore(), "order", 10, DIRECT);
+        for (long i = 0; i < 100; i++) {
+            Assert.assertEquals(i, id.nextLong());
+        }
+        // 用完的 10 个号段，以及预先申请的下一个号段
+        Assert.assertEquals(11, id.refillCount());
+    }
+
+    /**
+     * 存储故障时抛出异常，恢复后继续生成，且不重复
+     */
+    @Test
+    public void storeFailoverTest() {
+        final FlakyStore store = new FlakyStore();
+        SegmentId id = new SegmentId(store, "order", 10, DIRECT);
+        Set<Long> ids = new HashSet<>();
+        Assert.assertTrue(ids.add(id.nextLong()));
+
+        // 预先申请失败，当前号段仍然可以使用
+        store.down.set(true);
+        for (int i = 0; i < 9; i++) {
+            Assert.assertTrue(ids.add(id.nextLong()));
+        }
+        // 号段用尽，切换失败
+        try {
+            id.nextLong();
+            Assert.fail();
+        } catch (CommonRuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        try {
+            id.nextLong();
+            Assert.fail();
+        } catch (CommonRuntimeException e) {
+            // 失败不会被缓存为可用号段
+        }
+
+        store.down.set(false);
+        for (int i = 0; i < 30; i++) {
+            Assert.assertTrue(ids.add(id.nextLong()));
+        }
+    }
+
+    /**
+     * 线程池拒绝时在当前线程中申请
+     */
+    @Test
+    public void rejectedExecutorTest() {
+        SegmentId id = new SegmentId(new MemoryRangeStore(), "order", 10, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        });
+        for (long i = 0; i < 50; i++) {
+            Assert.assertEquals(i, id.nextLong());
+        }
+    }
+
+    /**
+     * 实例切换（比如进程重启或者主备切换）后，基于文件存储的标识不重复
+     */
+    @Test
+    public void instanceFailoverTest() throws Exception {
+        final Path dir = Files.createTempDirectory("heaven-segment");
+        Set<Long> ids = new HashSet<>();
+
+        SegmentId primary = new SegmentId(new FileRangeStore(dir), "order", 10, DIRECT);
+        for (int i = 0; i < 15; i++) {
+            Assert.assertTrue(ids.add(primary.nextLong()));
+        }
+
+        // 主实例未用完的号段直接丢弃，备用实例从存储的最大值继续
+        SegmentId standby = new SegmentId(new FileRangeStore(dir), "order", 10, DIRECT);
+        for (int i = 0; i < 15; i++) {
+            Assert.assertTrue(ids.add(standby.nextLong()));
+        }
+        for (int i = 0; i < 15; i++) {
+            Assert.assertTrue(ids.add(primary.nextLong()));
+        }
+    }
+
+}
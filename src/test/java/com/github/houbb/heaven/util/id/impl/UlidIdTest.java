@@ -0,0 +1,89 @@
+package com.github.houbb.heaven.util.id.impl;
+
+import com.github.houbb.heaven.support.clock.IClock;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class UlidIdTest {
+
+    /**
+     * 64 个线程并发生成，每个线程内严格递增，全局不重复
+     */
+    @Test
+    public void concurrentMonotonicTest() throws Exception {
+        final UlidId ulidId = new UlidId();
+        final int threads = 64;
+        final int perThread = 2000;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(new Callable<String[]>() {
+                    @Override
+                    public String[] call() throws Exception {
+                        startLatch.await();
+                        String[] ids = new String[perThread];
+                        for (int j = 0; j < perThread; j++) {
+                            ids[j] = ulidId.genId();
+                        }
+                        return ids;
+                    }
+                }));
+            }
+            startLatch.countDown();
+
+            Set<String> all = new HashSet<>(threads * perThread * 2);
+            for (Future<String[]> future : futures) {
+                final String[] ids = future.get(30, TimeUnit.SECONDS);
+                for (int j = 0; j < ids.length; j++) {
+                    Assert.assertEquals(26, ids[j].length());
+                    if (j > 0) {
+                        Assert.assertTrue(ids[j - 1] + " < " + ids[j], ids[j].compareTo(ids[j - 1]) > 0);
+                    }
+                    Assert.assertTrue("Duplicate id " + ids[j], all.add(ids[j]));
+                }
+            }
+            Assert.assertEquals(threads * perThread, all.size());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 时钟回拨时沿用上一个标识继续递增
+     */
+    @Test
+    public void clockBackwardTest() {
+        final long[] now = {System.currentTimeMillis()};
+        UlidId ulidId = new UlidId(new IClock() {
+            @Override
+            public long currentTimeMillis() {
+                return now[0];
+            }
+        });
+
+        final String first = ulidId.genId();
+        now[0] -= 1000;
+        final String second = ulidId.genId();
+        Assert.assertTrue(second.compareTo(first) > 0);
+        Assert.assertEquals(UlidId.timestampMillis(first), UlidId.timestampMillis(second));
+    }
+
+}
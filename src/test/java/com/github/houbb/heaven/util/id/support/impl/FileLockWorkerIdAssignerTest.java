@@ -0,0 +1,52 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import com.github.houbb.heaven.response.exception.CommonRuntimeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class FileLockWorkerIdAssignerTest {
+
+    /**
+     * 同一个 JVM 复用同一个租约，创建再多的生成器也不会耗尽
+     */
+    @Test
+    public void reuseLeaseTest() throws Exception {
+        final Path dir = Files.createTempDirectory("heaven-worker");
+
+        final long first = new FileLockWorkerIdAssigner(dir).assign(31);
+        Assert.assertTrue(first >= 0);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(first, new FileLockWorkerIdAssigner(dir).assign(31));
+        }
+    }
+
+    /**
+     * 所有标识都被其他进程占用时抛出异常
+     */
+    @Test(expected = CommonRuntimeException.class)
+    public void exhaustedTest() throws Exception {
+        final Path dir = Files.createTempDirectory("heaven-worker");
+
+        // 模拟其他进程持有唯一的标识
+        try (FileChannel channel = FileChannel.open(dir.resolve("worker-0.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                new FileLockWorkerIdAssigner(dir).assign(0);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.github.houbb.heaven.util.id.support.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author binbin.hou
+ * @since 0.1.13
+ */
+public class FileRangeStoreTest {
+
+    @Test
+    public void nextMaxTest() throws Exception {
+        final Path dir = Files.createTempDirectory("heaven-segment");
+        FileRangeStore store = new FileRangeStore(dir);
+        Assert.assertEquals(10, store.nextMax("order", 10));
+        Assert.assertEquals(30, store.nextMax("order", 20));
+        // 重新创建相当于进程重启，从文件中恢复
+        Assert.assertEquals(31, new FileRangeStore(dir).nextMax("order", 1));
+        Assert.assertTrue(Files.exists(dir.resolve("order.segment")));
+    }
+
+    /**
+     * 特殊字符被编码，文件始终位于目录内
+     */
+    @Test
+    public void keyEncodeTest() throws Exception {
+        Assert.assertEquals("order.id-1_a.segment", FileRangeStore.fileName("order.id-1_a"));
+        Assert.assertEquals("..%2Fevil.segment", FileRangeStore.fileName("../evil"));
+        Assert.assertEquals("a%5Cb%25.segment", FileRangeStore.fileName("a\\b%"));
+        Assert.assertEquals("%E4%B8%AD.segment", FileRangeStore.fileName("中"));
+
+        final Path root = Files.createTempDirectory("heaven-segment");
+        final Path dir = Files.createDirectories(root.resolve("store"));
+        FileRangeStore store = new FileRangeStore(dir);
+        Assert.assertEquals(5, store.nextMax("../evil", 5));
+        Assert.assertEquals(5, store.nextMax("/tmp/evil", 5));
+        Assert.assertFalse(Files.exists(root.resolve("evil.segment")));
+        Assert.assertTrue(Files.exists(dir.resolve("..%2Fevil.segment")));
+        Assert.assertEquals(1, dir.getParent().toFile().list().length);
+    }
+
+}